@@ -9,9 +9,14 @@ import org.sopt.artoo.utils.PasswordIncoder;
 import org.sopt.artoo.utils.ResponseMessage;
 import org.sopt.artoo.utils.StatusCode;
 import org.sopt.artoo.utils.auth.Auth;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
 
 import static org.sopt.artoo.model.DefaultRes.FAIL_DEFAULT_RES;
 
@@ -75,7 +80,8 @@ public class AdminController {
     public ResponseEntity userFindAll(@RequestHeader(value = "Authorization") final String header){
         if(jwtService.decode(header).getUser_idx() == 0){
             try {
-                return new ResponseEntity<>(adminService.findAllUserPurchase(), HttpStatus.OK);
+                StreamingResponseBody body = adminService::writeAllUserPurchase;
+                return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON_UTF8).body(body);
             } catch (Exception e) {
                 log.error(e.getMessage());
                 e.printStackTrace();
@@ -85,6 +91,47 @@ public class AdminController {
         return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.UNAUTHORIZED);
     }
 
+    /**
+     * 전체 거래 내역 CSV 내보내기 (스트리밍)
+     * @param header
+     * @return purchase.csv
+     */
+    @GetMapping("/admin/users/purchase/csv")
+    public ResponseEntity userExportAll(@RequestHeader(value = "Authorization") final String header){
+        if(jwtService.decode(header).getUser_idx() == 0){
+            try {
+                StreamingResponseBody body = adminService::writeAllUserPurchaseCsv;
+                return ResponseEntity.ok()
+                        .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"purchase.csv\"")
+                        .body(body);
+            } catch (Exception e) {
+                log.error(e.getMessage());
+                return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+        }
+        return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.UNAUTHORIZED);
+    }
+
+    /**
+     * 거래 내역 페이지 (50개씩, p_idx 내림차순)
+     * @param p_idx 이전 페이지 마지막 거래 인덱스 (-1 이면 첫 페이지)
+     * @param header
+     */
+    @GetMapping("/admin/users/purchase/page/{p_idx}")
+    public ResponseEntity userFindPage(@PathVariable("p_idx") final int p_idx,
+                                       @RequestHeader(value = "Authorization") final String header){
+        if(jwtService.decode(header).getUser_idx() == 0){
+            try {
+                return new ResponseEntity<>(adminService.findUserPurchasePage(p_idx), HttpStatus.OK);
+            } catch (Exception e) {
+                log.error(e.getMessage());
+                return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+        }
+        return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.UNAUTHORIZED);
+    }
+
 
     /**
      * 특정 인덱스에 해당하는 구매 내역 호출
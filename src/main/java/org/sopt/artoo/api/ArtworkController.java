@@ -6,17 +6,22 @@ import org.sopt.artoo.dto.ArtworkMini;
 import org.sopt.artoo.dto.PurchaseProduct;
 import org.sopt.artoo.model.*;
 import org.sopt.artoo.service.ArtworkService;
+import org.sopt.artoo.service.ChunkedUploadService;
 import org.sopt.artoo.service.JwtService;
 import org.sopt.artoo.utils.ResponseMessage;
 import org.sopt.artoo.utils.StatusCode;
 import org.sopt.artoo.utils.auth.Auth;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.sopt.artoo.model.DefaultRes.FAIL_AUTHORIZATION_RES;
 import static org.sopt.artoo.model.DefaultRes.FAIL_DEFAULT_RES;
@@ -28,10 +33,12 @@ public class ArtworkController {
     private static final DefaultRes UNAUTHORIZED_RES = new DefaultRes(StatusCode.UNAUTHORIZED, ResponseMessage.UNAUTHORIZED);
 
     private final ArtworkService artworkService;
+    private final ChunkedUploadService chunkedUploadService;
     private final JwtService jwtService;
 
-    public ArtworkController(ArtworkService artworkService, JwtService jwtService) {
+    public ArtworkController(ArtworkService artworkService, ChunkedUploadService chunkedUploadService, JwtService jwtService) {
         this.artworkService = artworkService;
+        this.chunkedUploadService = chunkedUploadService;
         this.jwtService = jwtService;
     }
 
@@ -79,6 +86,7 @@ public class ArtworkController {
 
     /**
      * 미술작품 전체 불러오기 - ios
+     * 전체 목록은 한 줄씩 바로 응답에 쓴다 (스트리밍)
      *
      * @param header jwt token
      * @return ResponseEntity
@@ -89,7 +97,45 @@ public class ArtworkController {
     ) {
         try {
             final int userIdx = jwtService.decode(header).getUser_idx();
-            DefaultRes<List<Artwork>> defaultRes = artworkService.findAllIos();
+            StreamingResponseBody body = outputStream -> artworkService.writeAllIos(outputStream, userIdx);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON_UTF8).body(body);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 미술작품 전체 인덱스랑 url만 불러오기 - ios
+     * 전체 목록은 한 줄씩 바로 응답에 쓴다 (스트리밍)
+     */
+    @GetMapping("/artworksmini")
+    public ResponseEntity getAllartworksMiniIos(){
+        try {
+            StreamingResponseBody body = artworkService::writeAllIndexAndUrlIos;
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON_UTF8).body(body);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 미술작품 페이지 불러오기 - ios (최신순 15개)
+     *
+     * @param header jwt token
+     * @param a_idx  이전 페이지 마지막 작품 인덱스 (-1 이면 첫 페이지)
+     * @param a_date 이전 페이지 마지막 작품 a_date (첫 페이지가 아니면 필수)
+     * @return ResponseEntity
+     */
+    @GetMapping("/artworks/ios/{a_idx}")
+    public ResponseEntity getPageArtworksIos(
+            @RequestHeader(value = "Authorization", required = false) final String header,
+            @PathVariable("a_idx") final int a_idx,
+            @RequestParam(value = "a_date", required = false) final String a_date) {
+        try {
+            final int userIdx = jwtService.decode(header).getUser_idx();
+            DefaultRes<List<Artwork>> defaultRes = artworkService.findPageIos(a_idx, a_date);
 
             for (Artwork artwork : defaultRes.getData()) {
                 artwork.setAuth(userIdx == artwork.getU_idx());
@@ -102,13 +148,17 @@ public class ArtworkController {
     }
 
     /**
-     * 미술작품 전체 인덱스랑 url만 불러오기 - ios
+     * 미술작품 인덱스랑 url만 페이지 불러오기 - ios (최신순 15개)
      *
+     * @param a_idx  이전 페이지 마지막 작품 인덱스 (-1 이면 첫 페이지)
+     * @param a_date 이전 페이지 마지막 작품 a_date (첫 페이지가 아니면 필수)
      */
-    @GetMapping("/artworksmini")
-    public ResponseEntity getAllartworksMiniIos(){
+    @GetMapping("/artworksmini/ios/{a_idx}")
+    public ResponseEntity getPageArtworksMiniIos(
+            @PathVariable("a_idx") final int a_idx,
+            @RequestParam(value = "a_date", required = false) final String a_date) {
         try {
-            DefaultRes<List<ArtworkMini>> defaultRes = artworkService.findAllIndexAndUrlIos();
+            DefaultRes<List<ArtworkMini>> defaultRes = artworkService.findIndexAndUrlPageIos(a_idx, a_date);
             return new ResponseEntity<>(defaultRes, HttpStatus.OK);
         } catch (Exception e) {
             log.error(e.getMessage());
@@ -196,7 +246,7 @@ public class ArtworkController {
      */
     @Auth
     @PostMapping("/artworks")
-    public ResponseEntity saveArtwork(
+    public CompletableFuture<ResponseEntity> saveArtwork(
             @RequestHeader(value = "Authorization") final String header,
             final ArtworkReq artworkReq, final MultipartFile pic_url) {
 
@@ -205,11 +255,11 @@ public class ArtworkController {
             artworkReq.setPic_url(pic_url);
             artworkReq.setA_size(calculateSize(artworkReq));
             log.info(artworkReq.toString());
-            return new ResponseEntity<>(artworkService.save(artworkReq), HttpStatus.OK);
+            return artworkService.save(artworkReq).thenApply(defaultRes -> new ResponseEntity<>(defaultRes, HttpStatus.OK));
         } catch (Exception e) {
             log.error(e.getMessage());
             e.printStackTrace();
-            return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR);
+            return CompletableFuture.completedFuture(new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR));
         }
     }
 
@@ -221,25 +271,119 @@ public class ArtworkController {
      */
     @Auth
     @PutMapping("/artworks")
-    public ResponseEntity updateArtwork(
+    public CompletableFuture<ResponseEntity> updateArtwork(
             @RequestHeader(value = "Authorization") final String header,
             final ArtworkReq artworkReq, final MultipartFile pic_url) {
         try {
-            log.info(pic_url.toString());
-            if (pic_url.isEmpty()){
-                return new ResponseEntity<>(DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.ARTWORK_NOPICUTRE), HttpStatus.INTERNAL_SERVER_ERROR);
+            final boolean hasPic = pic_url != null && !pic_url.isEmpty();
+            if (!hasPic && artworkReq.getUpload_id() == null){
+                return CompletableFuture.completedFuture(new ResponseEntity<>(DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.ARTWORK_NOPICUTRE), HttpStatus.INTERNAL_SERVER_ERROR));
             }
-            artworkReq.setPic_url(pic_url);
+            artworkReq.setPic_url(hasPic ? pic_url : null);
             artworkReq.setA_size(calculateSize(artworkReq));
             final int useridx = jwtService.decode(header).getUser_idx();
+            artworkReq.setU_idx(useridx);
             log.info("userIdx"+String.valueOf(useridx));
             log.info("artworkIdx"+String.valueOf(artworkReq.getA_idx()));
             if (artworkService.checkAuth(useridx, artworkReq.getA_idx()))
-                return new ResponseEntity<>(artworkService.update(artworkReq), HttpStatus.OK);
-            return new ResponseEntity<>(UNAUTHORIZED_RES, HttpStatus.UNAUTHORIZED);
+                return artworkService.update(artworkReq).thenApply(defaultRes -> new ResponseEntity<>(defaultRes, HttpStatus.OK));
+            return CompletableFuture.completedFuture(new ResponseEntity<>(UNAUTHORIZED_RES, HttpStatus.UNAUTHORIZED));
         } catch (Exception e) {
             log.error(e.getMessage());
             e.printStackTrace();
+            return CompletableFuture.completedFuture(new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR));
+        }
+    }
+
+    /**
+     * 작품 사진 분할 업로드 시작
+     * 받은 upload_id 로 조각을 보내고, 작품 작성/수정 때 pic_url 대신 upload_id 를 보낸다.
+     *
+     * @param header    jwt token
+     * @param file_name 원래 파일 이름
+     * @param size      전체 크기
+     * @return ResponseEntity - UploadSessionRes
+     */
+    @Auth
+    @PostMapping("/artworks/uploads")
+    public ResponseEntity startUpload(
+            @RequestHeader(value = "Authorization") final String header,
+            @RequestParam("file_name") final String file_name,
+            @RequestParam(value = "content_type", required = false) final String content_type,
+            @RequestParam("size") final long size) {
+        try {
+            final int userIdx = jwtService.decode(header).getUser_idx();
+            return new ResponseEntity<>(chunkedUploadService.create(userIdx, "artwork", file_name, content_type, size), HttpStatus.OK);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 작품 사진 분할 업로드 조회 (끊긴 뒤 이어 보낼 조각 확인)
+     *
+     * @param header    jwt token
+     * @param upload_id 분할 업로드 id
+     * @return ResponseEntity - UploadSessionRes
+     */
+    @Auth
+    @GetMapping("/artworks/uploads/{upload_id}")
+    public ResponseEntity getUpload(
+            @RequestHeader(value = "Authorization") final String header,
+            @PathVariable("upload_id") final String upload_id) {
+        try {
+            final int userIdx = jwtService.decode(header).getUser_idx();
+            return new ResponseEntity<>(chunkedUploadService.find(upload_id, userIdx), HttpStatus.OK);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 작품 사진 조각 업로드
+     * 본문은 조각 바이트 그대로(application/octet-stream, Content-Length 필수), 조각끼리는 동시에 보내도 된다.
+     *
+     * @param header      jwt token
+     * @param upload_id   분할 업로드 id
+     * @param part_number 조각 번호 (1부터)
+     * @return ResponseEntity
+     */
+    @Auth
+    @PutMapping("/artworks/uploads/{upload_id}/parts/{part_number}")
+    public ResponseEntity uploadPart(
+            @RequestHeader(value = "Authorization") final String header,
+            @PathVariable("upload_id") final String upload_id,
+            @PathVariable("part_number") final int part_number,
+            final HttpServletRequest request) {
+        try {
+            final int userIdx = jwtService.decode(header).getUser_idx();
+            return new ResponseEntity<>(chunkedUploadService.putPart(upload_id, userIdx, part_number,
+                    request.getInputStream(), request.getContentLengthLong()), HttpStatus.OK);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 작품 사진 분할 업로드 취소
+     *
+     * @param header    jwt token
+     * @param upload_id 분할 업로드 id
+     * @return ResponseEntity
+     */
+    @Auth
+    @DeleteMapping("/artworks/uploads/{upload_id}")
+    public ResponseEntity abortUpload(
+            @RequestHeader(value = "Authorization") final String header,
+            @PathVariable("upload_id") final String upload_id) {
+        try {
+            final int userIdx = jwtService.decode(header).getUser_idx();
+            return new ResponseEntity<>(chunkedUploadService.abort(upload_id, userIdx), HttpStatus.OK);
+        } catch (Exception e) {
+            log.error(e.getMessage());
             return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
@@ -285,6 +429,25 @@ public class ArtworkController {
             return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+
+    /**
+     * 미술 작품 키워드 검색 (관련도 순 15개)
+     *
+     * @param a_keyword 검색어
+     * @param page      페이지 (0 부터)
+     */
+    @GetMapping("/artworks/search/{page}")
+    public ResponseEntity searchArtwork(
+            @RequestParam(value="a_keyword", defaultValue = "",required=false) final String a_keyword,
+            @PathVariable("page") final int page) {
+        try {
+            DefaultRes defaultRes = artworkService.searchArtworkPic(a_keyword, page);
+            return new ResponseEntity<>(defaultRes, HttpStatus.OK);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
   
     /**
      * 작품에 대한 좋아요 수 조회
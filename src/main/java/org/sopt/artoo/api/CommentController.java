@@ -55,6 +55,27 @@ public class CommentController {
         }
     }
 
+    /**
+     * 작품 댓글 페이지 (20개씩, 최신순)
+     * @param a_idx  작품 인덱스
+     * @param c_idx  이전 페이지 마지막 댓글 인덱스 (-1 이면 첫 페이지)
+     * @param c_date 이전 페이지 마지막 댓글 c_date (첫 페이지가 아니면 필수)
+     */
+    @GetMapping("/comments/{a_idx}/page/{c_idx}")
+    public ResponseEntity findCommentPageByArtIdx(
+            @RequestHeader(value = "Authorization", required = false) final String header,
+            @PathVariable("a_idx") final int a_idx,
+            @PathVariable("c_idx") final int c_idx,
+            @RequestParam(value = "c_date", required = false) final String c_date) {
+        try {
+            final int userIdx = jwtService.decode(header).getUser_idx();
+            return new ResponseEntity<>(commentService.findCommentPageByArtIdx(a_idx, c_idx, c_date, userIdx), HttpStatus.OK);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @Auth
     @PostMapping("/comments")
     public ResponseEntity saveComment(
@@ -15,6 +15,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.concurrent.CompletableFuture;
+
 
 import static org.sopt.artoo.model.DefaultRes.FAIL_DEFAULT_RES;
 
@@ -71,7 +73,7 @@ public class DisplayController {
      * 관리자만 추가할 수 있음
      */
     @PostMapping("/displays")
-    public ResponseEntity saveDisplay(@RequestHeader(value = "Authorization", required = false) final String header,
+    public CompletableFuture<ResponseEntity> saveDisplay(@RequestHeader(value = "Authorization", required = false) final String header,
                                       final DisplayAddReq displayAddReq, final MultipartFile repImg_url,
                                       final MultipartFile titleImg_url, final MultipartFile mainImg_url) {
         try {
@@ -85,12 +87,12 @@ public class DisplayController {
             if (titleImg_url != null) {
                 displayAddReq.setM_d_titleImg_url(titleImg_url);
             }
-            return new ResponseEntity<>(displayService.addDisplay(displayAddReq), HttpStatus.OK);
+            return displayService.addDisplay(displayAddReq).thenApply(defaultRes -> new ResponseEntity<>(defaultRes, HttpStatus.OK));
 //            }
 //            return new ResponseEntity<>(UNAUTHORIZED_RES, HttpStatus.OK);
         } catch (Exception e) {
             log.error(e.getMessage());
-            return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR);
+            return CompletableFuture.completedFuture(new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR));
         }
     }
 
@@ -0,0 +1,81 @@
+package org.sopt.artoo.api;
+
+import lombok.extern.slf4j.Slf4j;
+import org.sopt.artoo.service.storage.LocalObjectStorage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 로컬 저장소 파일 내려주기 (storage.type=local 일 때만)
+ */
+@Slf4j
+@RestController
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class FileController {
+
+    // 톰캣 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 파일 이름이 내용 해시나 uuid 라서 한 번 받은 파일은 바뀌지 않는다
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final LocalObjectStorage localObjectStorage;
+
+    public FileController(final LocalObjectStorage localObjectStorage) {
+        this.localObjectStorage = localObjectStorage;
+    }
+
+    /**
+     * 파일 조회
+     * 톰캣이 sendfile 을 지원하면 톰캣에 파일 경로만 넘기고, 아니면 transferTo 로 보낸다.
+     *
+     * @param folder   폴더
+     * @param fileName 파일 이름
+     */
+    @GetMapping("/files/{folder}/{fileName:.+}")
+    public void getFile(@PathVariable("folder") final String folder, @PathVariable("fileName") final String fileName,
+                        final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        final Path path = localObjectStorage.find(folder, fileName);
+        if (path == null) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        final long length = Files.size(path);
+        response.setContentType(MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setContentLengthLong(length);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            return;
+        }
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            final WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < length) {
+                position += in.transferTo(position, length - position, out);
+            }
+        }
+    }
+}
@@ -8,7 +8,9 @@ import org.sopt.artoo.model.DefaultRes;
 import org.sopt.artoo.service.HomeService;
 import org.sopt.artoo.utils.ResponseMessage;
 import org.sopt.artoo.utils.StatusCode;
+import org.sopt.artoo.utils.cache.TodayArtistCache;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -27,14 +29,17 @@ public class HomeController {
 
     /**
      * 홈 - 오늘의 작가
+     * @param ifNoneMatch 이전에 받은 ETag (같으면 304)
      * @return defaultRes
      */
     @GetMapping("/today")
-    public ResponseEntity getAllTodayArtist(){
+    public ResponseEntity getAllTodayArtist(@RequestHeader(value = "If-None-Match", required = false) final String ifNoneMatch){
         try{
-            DefaultRes defaultRes = homeService.getAllTodayContents(); //작가 이름, 작가 사진들, 작품연도
-
-            return new ResponseEntity<>(defaultRes, HttpStatus.OK);
+            TodayArtistCache.Snapshot snapshot = homeService.getAllTodayContents(); //작가 이름, 작가 사진들, 작품연도
+            if (snapshot.getEtag().equals(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.getEtag()).build();
+            }
+            return ResponseEntity.ok().eTag(snapshot.getEtag()).contentType(MediaType.APPLICATION_JSON_UTF8).body(snapshot.getBody());
         }catch (Exception e){
             log.error(e.getMessage());
             return new ResponseEntity<>(FAIL_DEFAULT_RES, HttpStatus.INTERNAL_SERVER_ERROR);
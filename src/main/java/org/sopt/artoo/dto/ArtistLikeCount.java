@@ -0,0 +1,11 @@
+package org.sopt.artoo.dto;
+
+import lombok.Data;
+
+@Data
+public class ArtistLikeCount {
+    //작가 고유 번호
+    private int u_idx;
+    //해당 월 작가 작품이 받은 좋아요 수
+    private int like_count;
+}
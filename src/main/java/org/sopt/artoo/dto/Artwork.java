@@ -35,6 +35,8 @@ public class Artwork {
     private String a_year;
     // 작품 사진
     private String pic_url;
+    // 작품 사진 목록용 썸네일
+    private String pic_thumb_url;
     // 작품 재료
     private String a_material;
     // 작품 표현 기법
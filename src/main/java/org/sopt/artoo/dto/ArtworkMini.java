@@ -2,8 +2,14 @@ package org.sopt.artoo.dto;
 
 import lombok.Data;
 
+import java.util.Date;
+
 @Data
 public class ArtworkMini {
     private int a_idx;
     private String pic_url;
+    // 목록용 썸네일 주소
+    private String pic_thumb_url;
+    // 페이지 커서용 등록일 (페이지 조회에서만 채워짐)
+    private Date a_date;
 }
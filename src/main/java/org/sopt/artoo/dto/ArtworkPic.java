@@ -10,4 +10,8 @@ public class ArtworkPic {
     private int a_idx;
     // 사진 주소
     private String pic_url;
+    // 목록용 썸네일 주소 (축소본이 없으면 원본 주소)
+    private String pic_thumb_url;
+    // 중간 크기 주소 (축소본이 없으면 원본 주소)
+    private String pic_medium_url;
 }
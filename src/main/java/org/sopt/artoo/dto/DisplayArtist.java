@@ -0,0 +1,11 @@
+package org.sopt.artoo.dto;
+
+import lombok.Data;
+
+@Data
+public class DisplayArtist {
+    // 전시 고유 번호
+    private int d_idx;
+    // 참여 작가 이름
+    private String u_name;
+}
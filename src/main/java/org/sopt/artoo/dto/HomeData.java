@@ -11,11 +11,13 @@ public class HomeData {
      * a_name 작품 명
      * a_year 제작 연도
      * pic_url 사진 리스트
+     * pic_thumb_url 목록용 썸네일
      */
     private int a_idx;
     private String a_name;
     private String a_year;
     private String pic_url;
+    private String pic_thumb_url;
 
 
 }
@@ -0,0 +1,15 @@
+package org.sopt.artoo.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class PurchaseNotice extends Purchase {
+    // 작품명
+    private String a_name;
+    // 작가 이름
+    private String a_u_name;
+    // 작품 사진
+    private String a_pic_url;
+}
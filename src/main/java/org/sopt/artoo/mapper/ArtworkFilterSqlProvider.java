@@ -0,0 +1,62 @@
+package org.sopt.artoo.mapper;
+
+import org.apache.ibatis.jdbc.SQL;
+import org.sopt.artoo.model.ArtworkFilterReq;
+import org.sopt.artoo.utils.constants.SizeConstant;
+
+import java.util.Map;
+
+/**
+ * 미술작품 필터 쿼리 (size, form, category, keyword 중 들어온 조건만 WHERE 에 붙인다)
+ */
+public class ArtworkFilterSqlProvider {
+
+    /**
+     * 조건에 맞는 a_idx (a_idx 내림차순)
+     *
+     * @param params filter, a_idx (-1 이면 첫 페이지), limit (0 이면 전체)
+     * @return SQL
+     */
+    public String findArtIdxByFilter(final Map<String, Object> params) {
+        final int limit = (int) params.get("limit");
+        final String sql = filterSql(params, "a.a_idx") + " ORDER BY a.a_idx DESC";
+        return limit > 0 ? sql + " LIMIT #{limit}" : sql;
+    }
+
+    /**
+     * 조건에 맞는 작품 수
+     *
+     * @param params filter, a_idx (-1 이면 전체)
+     * @return SQL
+     */
+    public String countByFilter(final Map<String, Object> params) {
+        return filterSql(params, "COUNT(*)");
+    }
+
+    private String filterSql(final Map<String, Object> params, final String columns) {
+        final ArtworkFilterReq filter = (ArtworkFilterReq) params.get("filter");
+        final int a_idx = (int) params.get("a_idx");
+        final int sizeBucket = SizeConstant.bucketOf(filter.getA_size());
+
+        return new SQL() {{
+            SELECT(columns);
+            FROM("artwork a");
+            WHERE("a.a_active = 1");
+            if (sizeBucket != -1) {
+                WHERE("a.a_size BETWEEN " + SizeConstant.SIZE_MIN[sizeBucket] + " AND " + SizeConstant.SIZE_MAX[sizeBucket]);
+            }
+            if (!filter.getA_form().equals("")) {
+                WHERE("a.a_form = #{filter.a_form}");
+            }
+            if (!filter.getA_category().equals("")) {
+                WHERE("a.a_category = #{filter.a_category}");
+            }
+            if (!filter.getA_keyword().equals("")) {
+                WHERE("a.a_idx IN (SELECT k.a_idx FROM (" + ArtworkSearchSqlProvider.keywordMatchSql(filter) + ") k)");
+            }
+            if (a_idx != -1) {
+                WHERE("a.a_idx < #{a_idx}");
+            }
+        }}.toString();
+    }
+}
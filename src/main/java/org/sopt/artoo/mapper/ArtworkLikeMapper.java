@@ -3,6 +3,7 @@ package org.sopt.artoo.mapper;
 import org.apache.ibatis.annotations.*;
 import org.sopt.artoo.dto.ArtworkLike;
 
+import java.util.Date;
 import java.util.List;
 
 @Mapper
@@ -25,11 +26,30 @@ public interface ArtworkLikeMapper {
     @Select("SELECT * FROM artworkLike WHERE artworkLike.a_idx = #{a_idx} AND artworkLike.u_idx = #{u_idx}")
     ArtworkLike findByUserIdxAndArtworkIdx(@Param("u_idx") final int u_idx, @Param("a_idx") final int a_idx);
 
+    /**
+     * 좋아요 누른 시간
+     * @return al_date (없으면 null)
+     */
+    @Select("SELECT al_date FROM artworkLike WHERE artworkLike.a_idx = #{a_idx} AND artworkLike.u_idx = #{u_idx}")
+    Date findDateByUserIdxAndArtworkIdx(@Param("u_idx") final int u_idx, @Param("a_idx") final int a_idx);
+
     @Insert("INSERT INTO artworkLike(a_idx, u_idx, al_date) VALUES(#{a_idx},#{u_idx},#{al_date})")
     void save(@Param("u_idx") final int u_idx, @Param("a_idx") final int a_idx, @Param("al_date") final String al_DATETIME);
 
+    /**
+     * 좋아요가 없을 때만 저장 (uk_artworklike_user_artwork 가 있으면 동시 요청도 1건만 들어감)
+     * @return 저장된 행 수 (이미 있으면 0)
+     */
+    @Insert("INSERT IGNORE INTO artworkLike(a_idx, u_idx, al_date) SELECT #{a_idx}, #{u_idx}, #{al_date} FROM DUAL " +
+            "WHERE NOT EXISTS (SELECT 1 FROM artworkLike WHERE artworkLike.u_idx = #{u_idx} AND artworkLike.a_idx = #{a_idx})")
+    int saveIfAbsent(@Param("u_idx") final int u_idx, @Param("a_idx") final int a_idx, @Param("al_date") final String al_DATETIME);
+
+    /**
+     * 좋아요 삭제
+     * @return 삭제된 행 수
+     */
     @Delete("DELETE FROM artworkLike WHERE artworkLike.u_idx = #{u_idx} AND artworkLike.a_idx = #{a_idx}")
-    void deleteByUserIdxAndArtworkIdx(@Param("u_idx") final int u_idx, @Param("a_idx") final int a_idx);
+    int deleteByUserIdxAndArtworkIdx(@Param("u_idx") final int u_idx, @Param("a_idx") final int a_idx);
 
     @Delete("DELETE FROM artworkLike WHERE artworkLike.a_idx = #{a_idx}")
     void deleteByArtIdx(@Param("a_idx") final int a_idx);
@@ -1,15 +1,27 @@
 package org.sopt.artoo.mapper;
 
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.session.ResultHandler;
 import org.sopt.artoo.dto.Artwork;
 import org.sopt.artoo.dto.ArtworkMini;
+import org.sopt.artoo.dto.MyArtwork;
+import org.sopt.artoo.model.ArtworkFilterReq;
 import org.sopt.artoo.model.ArtworkReq;
 
+import java.util.Date;
 import java.util.List;
 
 @Mapper
 public interface ArtworkMapper {
 
+    // 마이페이지 작품 타일 컬럼 (작품 번호, 사진, 지금 전시 중인 전시에 걸렸는지)
+    // d_idxList 는 지금 전시 중인 전시 인덱스 (DisplayCalendar), 비어있으면 모두 전시 중 아님
+    String MY_ARTWORK_COLUMNS = "a.a_idx, ap.pic_url AS a_url, " +
+            "<choose><when test='d_idxList.isEmpty()'>0</when><otherwise>" +
+            "EXISTS(SELECT 1 FROM display_content dc WHERE dc.a_idx = a.a_idx AND dc.u_idx = #{u_idx} AND dc.d_idx IN " +
+            "<foreach item='d_idx' collection='d_idxList' open='(' separator=',' close=')'>#{d_idx}</foreach>)" +
+            "</otherwise></choose> AS a_isDisplay ";
+
     /**
      * 미술작품 전체 조회
      *
@@ -20,22 +32,69 @@ public interface ArtworkMapper {
     List<Artwork> findAll(@Param("a_idx") final int a_idx);
 
     /**
-     * 미술작품 전체 조회
+     * 미술작품 전체 조회 - ios (스트리밍)
+     * 한 줄씩 resultHandler 로 넘기고 결과 리스트를 만들지 않는다.
      *
-     * @return 미술작품전체
+     * @param resultHandler 작품 한 개씩 처리
+     */
+    @Select("SELECT a.*, ap.pic_url, COALESCE(ap.pic_thumb_url, ap.pic_url) AS pic_thumb_url " +
+            "FROM artwork a LEFT JOIN artworkPic ap ON a.a_idx = ap.a_idx " +
+            "WHERE a.a_active = 1 ORDER BY a.a_date DESC")
+    @Options(fetchSize = Integer.MIN_VALUE)
+    @ResultType(Artwork.class)
+    void streamAllIos(final ResultHandler<Artwork> resultHandler);
+
+    /**
+     * 미술작품 페이지 조회 - ios (a_date 최신순 15개)
+     * 커서는 클라이언트가 받은 (a_date, a_idx) 그대로 쓴다. (커서 작품이 수정/삭제돼도 이어서 읽음)
+     *
+     * @param a_date 이전 페이지 마지막 작품 등록일 (null 이면 첫 페이지)
+     * @param a_idx  이전 페이지 마지막 작품 인덱스
+     * @return 미술작품 리스트
      */
-    @Select("SELECT * FROM artwork WHERE a_active = 1 ORDER BY artwork.a_date DESC")
-    List<Artwork> findAllIos();
+    @Select("<script>SELECT * FROM artwork WHERE a_active = 1" +
+            "<if test='a_date != null'> AND (a_date &lt; #{a_date} OR (a_date = #{a_date} AND a_idx &lt; #{a_idx}))</if>" +
+            " ORDER BY a_date DESC, a_idx DESC LIMIT 15</script>")
+    List<Artwork> findPageIos(@Param("a_date") final Date a_date, @Param("a_idx") final int a_idx);
 
     @Select("SELECT * FROM artwork WHERE a_active = 1 AND a_idx < #{a_idx} ORDER BY artwork.a_idx DESC LIMIT 15")
     List<ArtworkMini> findAllIndexAndUrl(@Param("a_idx") final int a_idx);
 
-    @Select("SELECT * FROM artwork WHERE a_active = 1 ORDER BY artwork.a_date DESC")
-    List<ArtworkMini> findAllIndexAndUrlIos();
+    /**
+     * 미술작품 인덱스, url 전체 조회 - ios (스트리밍)
+     *
+     * @param resultHandler 작품 한 개씩 처리
+     */
+    @Select("SELECT a.a_idx, ap.pic_url, COALESCE(ap.pic_thumb_url, ap.pic_url) AS pic_thumb_url " +
+            "FROM artwork a LEFT JOIN artworkPic ap ON a.a_idx = ap.a_idx " +
+            "WHERE a.a_active = 1 ORDER BY a.a_date DESC")
+    @Options(fetchSize = Integer.MIN_VALUE)
+    @ResultType(ArtworkMini.class)
+    void streamAllIndexAndUrlIos(final ResultHandler<ArtworkMini> resultHandler);
+
+    /**
+     * 미술작품 인덱스, url 페이지 조회 - ios (a_date 최신순 15개)
+     *
+     * @param a_date 이전 페이지 마지막 작품 등록일 (null 이면 첫 페이지)
+     * @param a_idx  이전 페이지 마지막 작품 인덱스
+     * @return 미술작품 리스트 (다음 커서용 a_date 포함)
+     */
+    @Select("<script>SELECT a_idx, a_date FROM artwork WHERE a_active = 1" +
+            "<if test='a_date != null'> AND (a_date &lt; #{a_date} OR (a_date = #{a_date} AND a_idx &lt; #{a_idx}))</if>" +
+            " ORDER BY a_date DESC, a_idx DESC LIMIT 15</script>")
+    List<ArtworkMini> findIndexAndUrlPageIos(@Param("a_date") final Date a_date, @Param("a_idx") final int a_idx);
 
     @Select("SELECT * FROM artwork WHERE a_active = 1")
     List<Artwork> findRealAll();
 
+    /**
+     * 활성화 된 미술작품 수
+     *
+     * @return 활성화 작품 수
+     */
+    @Select("SELECT COUNT(*) FROM artwork WHERE a_active = 1")
+    int countActiveArtwork();
+
 
     /**
      * 미술작품 인덱스로 조회
@@ -47,6 +106,16 @@ public interface ArtworkMapper {
     Artwork findByIdx(@Param("a_idx") final int a_idx);
 
 
+    /**
+     * 미술작품 인덱스로 조회 (사진 주소 포함, 쿼리 1번)
+     *
+     * @param a_idx
+     * @return 미술작품객체
+     */
+    @Select("SELECT a.*, ap.pic_url FROM artwork a LEFT JOIN artworkPic ap ON a.a_idx = ap.a_idx " +
+            "WHERE a.a_idx = #{a_idx} AND a.a_active = 1 LIMIT 1")
+    Artwork findByIdxWithPic(@Param("a_idx") final int a_idx);
+
     @Select("SELECT * FROM artwork WHERE a_idx = #{a_idx} AND a_active = 1 AND u_idx=#{u_idx}")
     Artwork findByIdxAndUidx(@Param("a_idx") final int a_idx, @Param("u_idx") final int u_idx );
 
@@ -68,6 +137,30 @@ public interface ArtworkMapper {
     @Select("SELECT * FROM artwork WHERE u_idx = #{u_idx} AND a_active = 1 ORDER BY a_idx DESC")
     List<Artwork> findArtworkByUserIdx(@Param("u_idx") final int u_idx);
 
+    /**
+     * 마이페이지 - 작가 작품 타일 (활성화 된 작품만, 사진과 전시 여부 포함)
+     *
+     * @param u_idx     작가 인덱스
+     * @param d_idxList 지금 전시 중인 전시 인덱스 리스트
+     * @return 작품 타일 리스트
+     */
+    @Select("<script>SELECT " + MY_ARTWORK_COLUMNS + "FROM artwork a LEFT JOIN artworkPic ap ON a.a_idx = ap.a_idx " +
+            "WHERE a.u_idx = #{u_idx} AND a.a_active = 1 ORDER BY a.a_idx DESC</script>")
+    List<MyArtwork> findMyArtworkByUserIdx(@Param("u_idx") final int u_idx, @Param("d_idxList") final List<Integer> d_idxList);
+
+    /**
+     * 마이페이지 - 좋아요 누른 작품 타일 (활성화 된 작품만, 좋아요 최신순)
+     * 전시 여부는 좋아요 누른 유저 본인 작품일 때만 표시된다
+     *
+     * @param u_idx     유저 인덱스
+     * @param d_idxList 지금 전시 중인 전시 인덱스 리스트
+     * @return 작품 타일 리스트
+     */
+    @Select("<script>SELECT " + MY_ARTWORK_COLUMNS + "FROM artworkLike al JOIN artwork a ON a.a_idx = al.a_idx " +
+            "LEFT JOIN artworkPic ap ON a.a_idx = ap.a_idx " +
+            "WHERE al.u_idx = #{u_idx} AND a.a_active = 1 ORDER BY al.al_date DESC</script>")
+    List<MyArtwork> findLikedArtworkByUserIdx(@Param("u_idx") final int u_idx, @Param("d_idxList") final List<Integer> d_idxList);
+
     /**
      * 유저 삭제용 연관 아트워크 유저 인덱스 변경
      * @param u_idx
@@ -107,18 +200,20 @@ public interface ArtworkMapper {
     void deleteByArtIdx(@Param("a_idx") final int a_idx);
 
     /**
-     * 좋아요 수
+     * 좋아요 수 증감 (DB 에서 더하므로 동시에 눌러도 잃어버리지 않음)
+     * @param a_idx
+     * @param delta +1 / -1
      */
-    @Update("UPDATE artwork SET a_like_count = #{a_like_count} WHERE a_idx = #{a_idx}")
-    void like(@Param("a_idx") final int a_idx, @Param("a_like_count") final int a_like_count);
+    @Update("UPDATE artwork SET a_like_count = GREATEST(a_like_count + #{delta}, 0) WHERE a_idx = #{a_idx}")
+    void addLikeCount(@Param("a_idx") final int a_idx, @Param("delta") final int delta);
 
 
     /**
-     * 미술작품 태그, a_idx
+     * 테마 색인용 활성화 미술작품 태그, a_idx
      * @return a_tags, a_idx
      */
-    @Select("SELECT a_tags, a_idx FROM artwork WHERE a_active = 1 ORDER BY rand()")
-    List<Artwork> findTagsArtworkIdx();
+    @Select("SELECT a_tags, a_idx FROM artwork WHERE a_active = 1")
+    List<Artwork> findAllTagInfo();
 
     /**
      * 미술작품 태그, a_idx
@@ -129,45 +224,56 @@ public interface ArtworkMapper {
 //    List<Artwork> findTagsArtworkIdxByPage(@Param("a_idx") final int a_idx);
 
 
-    @Select("SELECT a_idx FROM artwork WHERE a_active =1 ORDER BY a_idx DESC")
-    List<Integer> findAllArtIdx();
-
-    @Select("SELECT a_idx FROM artwork WHERE a_active =1 AND a_idx < #{a_idx} ORDER BY a_idx DESC")
-    List<Integer> findAllArtIdxBelow(@Param("a_idx") final int a_idx);
-
     /**
-     * 미술작품 크기 필터
-     * @param max_size
-     * @param min_size
-     * @return a_idx
-     * min_size, max_size 클라에서 'S', 'M' 인지 받아서 S면 min_size = 0, max_size = 2411 설정해서 a_idx받아오기,
-     * ArtworkPicMapper findByArtIdx 함수 이용해서 art_pic 받아오기
+     * 필터 색인용 활성화 미술작품 (a_idx, a_form, a_category, a_size 만)
+     *
+     * @return 미술작품 리스트
      */
-    @Select("SELECT a_idx FROM artwork WHERE a_size BETWEEN #{min_size} AND #{max_size} AND a_active = 1 ORDER BY artwork.a_idx DESC")
-    List<Integer> findArtIdxBySize(@Param("min_size") final int min_size, @Param("max_size") final int max_size);
-
-    @Select("SELECT a_idx FROM artwork WHERE a_size BETWEEN #{min_size} AND #{max_size} AND a_active = 1 AND a_idx < #{a_idx} ORDER BY artwork.a_date DESC")
-    List<Integer> findArtIdxBySizeBelowIdx(@Param("min_size") final int min_size, @Param("max_size") final int max_size, @Param("a_idx") final int a_idx);
+    @Select("SELECT a_idx, a_form, a_category, a_size FROM artwork WHERE a_active = 1")
+    List<Artwork> findAllFilterInfo();
 
     /**
-     * 미술 작품 형태 필터(드로잉, 페인팅, 동양화, 혼합 매체, 조형/공예, 사진)
-     * @param a_form
-     * @return a_idx
+     * 미술작품 필터 (size, form, category, keyword 중 들어온 조건만 사용)
+     *
+     * @param filter 필터 조건 ("" 이면 조건 없음)
+     * @param a_idx  이 인덱스보다 작은 작품만 (-1 이면 전체)
+     * @param limit  최대 개수 (0 이면 전체)
+     * @return a_idx 리스트 (내림차순)
      */
-    @Select("SELECT a_idx FROM artwork WHERE a_form = #{a_form} AND a_active = 1 ORDER BY artwork.a_idx DESC")
-    List<Integer> findArtIdxByForm(@Param("a_form") final String a_form);
+    @SelectProvider(type = ArtworkFilterSqlProvider.class, method = "findArtIdxByFilter")
+    List<Integer> findArtIdxByFilter(@Param("filter") final ArtworkFilterReq filter, @Param("a_idx") final int a_idx,
+                                     @Param("limit") final int limit);
 
-    @Select("SELECT a_idx FROM artwork WHERE a_form = #{a_form} AND a_active = 1 AND a_idx < #{a_idx} ORDER BY artwork.a_idx DESC")
-    List<Integer> findArtIdxByFormBelowIdx(@Param("a_form") final String a_form, @Param("a_idx") final int a_idx);
+    /**
+     * 미술작품 필터 결과 수
+     *
+     * @param filter 필터 조건 ("" 이면 조건 없음)
+     * @param a_idx  이 인덱스보다 작은 작품만 (-1 이면 전체)
+     * @return 작품 수
+     */
+    @SelectProvider(type = ArtworkFilterSqlProvider.class, method = "countByFilter")
+    int countByFilter(@Param("filter") final ArtworkFilterReq filter, @Param("a_idx") final int a_idx);
 
     /**
-     * 미술 작품 카테고리(인물, 동물, 식물, 사물, 추상, 풍경)
+     * 미술작품 키워드 검색 (작품명, 설명, 작가 이름, 학교 FULLTEXT 관련도 순)
+     *
+     * @param filter a_keyword 만 사용
+     * @param offset 건너뛸 개수
+     * @param limit  최대 개수
+     * @return a_idx 리스트
      */
-    @Select("SELECT a_idx FROM artwork WHERE a_category = #{a_category} AND a_active = 1 ORDER BY artwork.a_idx DESC")
-    List<Integer> findArtIdxByCategory(@Param("a_category") final String a_category);
+    @SelectProvider(type = ArtworkSearchSqlProvider.class, method = "searchArtIdx")
+    List<Integer> searchArtIdx(@Param("filter") final ArtworkFilterReq filter, @Param("offset") final int offset,
+                               @Param("limit") final int limit);
 
-    @Select("SELECT a_idx FROM artwork WHERE a_category = #{a_category} AND a_active = 1 AND a_idx < #{a_idx} ORDER BY artwork.a_idx DESC")
-    List<Integer> findArtIdxByCategoryBelowIdx(@Param("a_category") final String a_category, @Param("a_idx") final int a_idx);
+    /**
+     * 미술작품 키워드 검색 결과 수
+     *
+     * @param filter a_keyword 만 사용
+     * @return 작품 수
+     */
+    @SelectProvider(type = ArtworkSearchSqlProvider.class, method = "countSearch")
+    int countSearch(@Param("filter") final ArtworkFilterReq filter);
 
     /**
      * 작품 고유 번호로 작품 판매 상태 변환
@@ -177,21 +283,6 @@ public interface ArtworkMapper {
     @Update("UPDATE artwork SET a_purchaseState = #{a_state} WHERE a_idx = #{a_idx}")
     void updatePurchaseStateByAIdx(@Param("a_state") final int a_state, @Param("a_idx") final int a_idx);
 
-    /**
-     *
-     * @param keyword
-     * @param likeKeyword
-     * @return
-     */
-    @Select("SELECT a.a_idx FROM artwork a, user u WHERE a.u_idx = u.u_idx AND (a.a_name LIKE #{likeKeyword} OR a.a_category LIKE #{likeKeyword} OR a.a_form LIKE #{likeKeyword} OR a.a_detail LIKE #{likeKeyword} " +
-            "OR u.u_name LIKE #{likeKeyword} OR u.u_school LIKE #{likeKeyword}) AND a.a_active = 1 ORDER BY a.a_idx DESC")
-    List<Integer> findArtIdxByKeyword(@Param("keyword") final String keyword, @Param("likeKeyword") final String likeKeyword);
-
-    @Select("SELECT a.a_idx FROM artwork a, user u WHERE a.u_idx = u.u_idx AND (a.a_name LIKE #{likeKeyword} OR a.a_category LIKE #{likeKeyword} OR a.a_form LIKE #{likeKeyword} OR a.a_detail LIKE #{likeKeyword} " +
-            "OR u.u_name LIKE #{likeKeyword} OR u.u_school LIKE #{likeKeyword}) AND a.a_active = 1 AND a.a_idx < #{a_idx} ORDER BY a.a_idx DESC")
-    List<Integer> findArtIdxByKeywordBelowIdx(@Param("keyword") final String keyword, @Param("likeKeyword") final String likeKeyword, @Param("a_idx") final int a_idx);
-
-
     /**
      * artowrk 모든 작가(u_idx) 조회
      */
@@ -4,17 +4,23 @@ package org.sopt.artoo.mapper;
 import org.apache.ibatis.annotations.*;
 import org.sopt.artoo.dto.ArtworkPic;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 @Mapper
 public interface ArtworkPicMapper {
 
+    // 축소본이 없는 예전 사진은 원본 주소로 채운다
+    String PIC_COLUMNS = "a_idx, pic_url, COALESCE(pic_thumb_url, pic_url) AS pic_thumb_url, " +
+            "COALESCE(pic_medium_url, pic_url) AS pic_medium_url";
+
     /**
      * 작품 전체 사진 조회
     * @return 사진 한 장
      */
-    @Select("SELECT * FROM artworkPic")
+    @Select("SELECT " + PIC_COLUMNS + " FROM artworkPic")
     List<ArtworkPic> findAllArtworkPic();
 
     /**
@@ -22,14 +28,61 @@ public interface ArtworkPicMapper {
      * @param a_idx
      * @return 사진 한 장
      */
-    @Select("SELECT * FROM artworkPic WHERE a_idx = #{a_idx}")
+    @Select("SELECT " + PIC_COLUMNS + " FROM artworkPic WHERE a_idx = #{a_idx}")
     ArtworkPic findByArtIdx(@Param("a_idx") final int a_idx);
 
-    @Insert("INSERT INTO artworkPic(a_idx, pic_url) VALUES(#{a_idx}, #{pic_url})")
-    void save(@Param("a_idx") final int a_idx, @Param("pic_url") final String pic_url);
+    /**
+     * 여러 작품 사진 한 번에 조회
+     * @param a_idxList 작품 인덱스 리스트 (비어있으면 안됨)
+     * @return 사진 리스트
+     */
+    @Select("<script>SELECT " + PIC_COLUMNS + " FROM artworkPic WHERE a_idx IN " +
+            "<foreach item='a_idx' collection='a_idxList' open='(' separator=',' close=')'>#{a_idx}</foreach></script>")
+    List<ArtworkPic> findByArtIdxList(@Param("a_idxList") final List<Integer> a_idxList);
+
+    /**
+     * 여러 작품 사진 한 번에 조회 (작품당 한 장, 사진이 여러 개면 처음 읽은 사진)
+     * @param a_idxList 작품 인덱스 리스트 (비어있으면 쿼리 없이 빈 맵)
+     * @return a_idx -> 사진 (원본, 축소본 주소)
+     */
+    default Map<Integer, ArtworkPic> findMapByArtIdxList(final List<Integer> a_idxList) {
+        final Map<Integer, ArtworkPic> picMap = new HashMap<>();
+        if (a_idxList.isEmpty()) {
+            return picMap;
+        }
+        for (ArtworkPic artworkPic : findByArtIdxList(a_idxList)) {
+            picMap.putIfAbsent(artworkPic.getA_idx(), artworkPic);
+        }
+        return picMap;
+    }
+
+    /**
+     * 작품 사진 저장 (원본, 축소본 주소)
+     * @param artworkPic 사진 주소
+     */
+    @Insert("INSERT INTO artworkPic(a_idx, pic_url, pic_thumb_url, pic_medium_url) " +
+            "VALUES(#{a_idx}, #{pic_url}, #{pic_thumb_url}, #{pic_medium_url})")
+    void save(final ArtworkPic artworkPic);
 
-    @Update("UPDATE artworkPic SET pic_url = #{pic_url} WHERE a_idx = #{a_idx}")
-    void update(@Param("a_idx") final int a_idx, @Param("pic_url") final String pic_url);
+    /**
+     * 작품 사진 수정 (원본, 축소본 주소)
+     * @param artworkPic 사진 주소
+     */
+    @Update("UPDATE artworkPic SET pic_url = #{pic_url}, pic_thumb_url = #{pic_thumb_url}, " +
+            "pic_medium_url = #{pic_medium_url} WHERE a_idx = #{a_idx}")
+    void update(final ArtworkPic artworkPic);
+
+    /**
+     * 주소를 쓰고 있는 사진이 있는지 (원본, 축소본 어느 쪽이든)
+     * 같은 내용은 같은 주소로 올라가므로 지우기 전에 다른 작품이 쓰는지 확인한다
+     * 컬럼마다 인덱스를 타도록 EXISTS 를 나눈다 (src/main/resources/sql/artwork_pic_url_index.sql)
+     * @param url 파일 주소
+     * @return 쓰고 있으면 true
+     */
+    @Select("SELECT EXISTS(SELECT 1 FROM artworkPic WHERE pic_url = #{url}) " +
+            "OR EXISTS(SELECT 1 FROM artworkPic WHERE pic_thumb_url = #{url}) " +
+            "OR EXISTS(SELECT 1 FROM artworkPic WHERE pic_medium_url = #{url})")
+    boolean existsByUrl(@Param("url") final String url);
 
     @Delete("DELETE FROM artworkPic WHERE a_idx = #{a_idx}")
     void deleteByArtIdx(@Param("a_idx") final int a_idx);
@@ -0,0 +1,80 @@
+package org.sopt.artoo.mapper;
+
+import org.sopt.artoo.model.ArtworkFilterReq;
+
+import java.util.Map;
+
+/**
+ * 미술작품 키워드 검색 쿼리
+ *
+ * 작품명/설명(artwork), 작가 이름/학교(user) 는 FULLTEXT(ngram) 인덱스로 찾는다.
+ * 형태/카테고리는 검색어가 들어간 값을 메모리(ArtworkFilterIndex)에서 먼저 골라 IN 으로 찾는다.
+ * 인덱스는 src/main/resources/sql/artwork_fulltext.sql, artwork_form_category_index.sql 참고
+ */
+public class ArtworkSearchSqlProvider {
+
+    /**
+     * 키워드 검색 a_idx (관련도 순)
+     *
+     * @param params filter, offset, limit
+     * @return SQL
+     */
+    public String searchArtIdx(final Map<String, Object> params) {
+        return "SELECT s.a_idx FROM (" + keywordMatchSql((ArtworkFilterReq) params.get("filter")) + ") s " +
+                "GROUP BY s.a_idx ORDER BY SUM(s.score) DESC, s.a_idx DESC LIMIT #{offset}, #{limit}";
+    }
+
+    /**
+     * 키워드 검색 결과 수
+     *
+     * @param params filter
+     * @return SQL
+     */
+    public String countSearch(final Map<String, Object> params) {
+        return "SELECT COUNT(DISTINCT s.a_idx) FROM (" + keywordMatchSql((ArtworkFilterReq) params.get("filter")) + ") s";
+    }
+
+    /**
+     * 키워드에 맞는 활성화 작품 (a_idx, score)
+     * 카테고리/형태는 검색어가 들어간 값(a_matchCategories, a_matchForms)으로 찾고, 검색어가 ngram 토큰보다 짧으면 나머지는 LIKE 로 찾는다.
+     *
+     * @param filter #{filter.*} 로 바인딩되는 필터 조건
+     * @return SQL (a_idx 가 겹칠 수 있음)
+     */
+    static String keywordMatchSql(final ArtworkFilterReq filter) {
+        final String formCategorySql = formCategoryMatchSql(filter);
+        if (filter.getA_searchKeyword() == null) {
+            return "SELECT sa.a_idx, 0 AS score FROM artwork sa INNER JOIN user su ON sa.u_idx = su.u_idx " +
+                    "WHERE sa.a_active = 1 AND (sa.a_name LIKE #{filter.a_likeKeyword} OR sa.a_detail LIKE #{filter.a_likeKeyword} " +
+                    "OR su.u_name LIKE #{filter.a_likeKeyword} OR su.u_school LIKE #{filter.a_likeKeyword})" +
+                    (formCategorySql == null ? "" : " UNION ALL " + formCategorySql);
+        }
+        return "SELECT sa.a_idx, MATCH(sa.a_name, sa.a_detail) AGAINST(#{filter.a_searchKeyword} IN BOOLEAN MODE) AS score " +
+                "FROM artwork sa WHERE sa.a_active = 1 AND MATCH(sa.a_name, sa.a_detail) AGAINST(#{filter.a_searchKeyword} IN BOOLEAN MODE) " +
+                "UNION ALL " +
+                "SELECT sa.a_idx, MATCH(su.u_name, su.u_school) AGAINST(#{filter.a_searchKeyword} IN BOOLEAN MODE) AS score " +
+                "FROM user su INNER JOIN artwork sa ON sa.u_idx = su.u_idx " +
+                "WHERE sa.a_active = 1 AND MATCH(su.u_name, su.u_school) AGAINST(#{filter.a_searchKeyword} IN BOOLEAN MODE)" +
+                (formCategorySql == null ? "" : " UNION ALL " + formCategorySql);
+    }
+
+    // 고른 형태/카테고리 값이 없으면 null
+    private static String formCategoryMatchSql(final ArtworkFilterReq filter) {
+        final StringBuilder condition = new StringBuilder();
+        appendIn(condition, "sa.a_category", "a_matchCategories", filter.getA_matchCategories().size());
+        appendIn(condition, "sa.a_form", "a_matchForms", filter.getA_matchForms().size());
+        if (condition.length() == 0) return null;
+        return "SELECT sa.a_idx, 0 AS score FROM artwork sa WHERE sa.a_active = 1 AND (" + condition + ")";
+    }
+
+    private static void appendIn(final StringBuilder condition, final String column, final String property, final int size) {
+        if (size == 0) return;
+        if (condition.length() > 0) condition.append(" OR ");
+        condition.append(column).append(" IN (");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) condition.append(", ");
+            condition.append("#{filter.").append(property).append('[').append(i).append("]}");
+        }
+        condition.append(')');
+    }
+}
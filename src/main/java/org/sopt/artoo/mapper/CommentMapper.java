@@ -4,6 +4,7 @@ import org.apache.ibatis.annotations.*;
 import org.sopt.artoo.dto.Comment;
 import org.sopt.artoo.model.CommentReq;
 
+import java.util.Date;
 import java.util.List;
 
 @Mapper
@@ -18,6 +19,24 @@ public interface CommentMapper {
     @Select("SELECT * FROM comment WHERE a_idx = #{a_idx} ORDER BY comment.c_date DESC")
     List<Comment> findAllCommentByArtIdx(@Param("a_idx") final int a_idx);
 
+    /**
+     * 작품 댓글 페이지 (작성자 이름 포함, c_date, c_idx 내림차순)
+     * 이전 페이지 마지막 댓글의 (c_date, c_idx) 다음부터 읽는다. 기준 댓글이 지워졌으면 빈 리스트
+     *
+     * @param a_idx  작품 인덱스
+     * @param c_date 이전 페이지 마지막 댓글 c_date (null 이면 첫 페이지)
+     * @param c_idx  이전 페이지 마지막 댓글 인덱스
+     * @param limit  최대 개수 (-1 이면 전부)
+     * @return 댓글 리스트 (auth 는 비어 있음)
+     */
+    @Select("<script>SELECT c.c_idx, c.c_content, c.c_date, c.u_idx, c.a_idx, u.u_name FROM comment c " +
+            "LEFT JOIN user u ON u.u_idx = c.u_idx " +
+            "WHERE c.a_idx = #{a_idx} " +
+            "<if test='c_date != null'>AND (c.c_date &lt; #{c_date} OR (c.c_date = #{c_date} AND c.c_idx &lt; #{c_idx})) </if>" +
+            "ORDER BY c.c_date DESC, c.c_idx DESC<if test='limit != -1'> LIMIT #{limit}</if></script>")
+    List<Comment> findCommentPageByArtIdx(@Param("a_idx") final int a_idx, @Param("c_date") final Date c_date,
+                                          @Param("c_idx") final int c_idx, @Param("limit") final int limit);
+
     @Select("SELECT * FROM comment WHERE u_idx = #{u_idx} ORDER BY comment.c_date DESC")
     List<Comment> findAllCommentByUserIdx(@Param("u_idx") final int u_idx);
 
@@ -2,6 +2,7 @@ package org.sopt.artoo.mapper;
 
 import org.apache.ibatis.annotations.*;
 import org.sopt.artoo.dto.Display;
+import org.sopt.artoo.dto.DisplayArtist;
 import org.sopt.artoo.dto.DisplayContent;
 import org.sopt.artoo.model.DisplayContentRes;
 import org.sopt.artoo.model.DisplayReq;
@@ -16,6 +17,16 @@ public interface DisplayContentMapper {
     @Select("SELECT * FROM display_content WHERE d_idx=#{d_idx}")
     List<DisplayContent> findByDisplay(@Param("d_idx") final int d_idx);
 
+    /**
+     * 여러 전시 참여 작가 이름 한 번에 조회 (전시별 신청 순)
+     * @param d_idxList 전시 인덱스 리스트 (비어있으면 안됨)
+     * @return 전시 인덱스, 작가 이름 리스트
+     */
+    @Select("<script>SELECT dc.d_idx, u.u_name FROM display_content dc JOIN user u ON u.u_idx = dc.u_idx " +
+            "WHERE dc.d_idx IN <foreach item='d_idx' collection='d_idxList' open='(' separator=',' close=')'>#{d_idx}</foreach> " +
+            "ORDER BY dc.d_idx, dc.dc_idx</script>")
+    List<DisplayArtist> findArtistNamesByDisplayIdxList(@Param("d_idxList") final List<Integer> d_idxList);
+
     // 전시 컨텐츠 테이블에서 이미 등록된 전시인지 확인
     @Select("SELECT * FROM display_content WHERE u_idx = #{u_idx} and d_idx=#{d_idx}")
     DisplayContent findByUidxAndDidx(@Param("u_idx") final int u_idx, @Param("d_idx") final int d_idx);
@@ -26,8 +37,17 @@ public interface DisplayContentMapper {
     @Select("SELECT * FROM display_content WHERE u_idx = #{u_idx}")
     List<DisplayContent> findByUidx(@Param("u_idx") final int u_idx);
 
-    @Select("SELECT  dc.dc_idx, a.a_idx, a.a_name, a.a_width, a.a_height, a.a_depth, a.a_form, a.a_year, a.u_idx FROM artwork a, display_content dc " +
-            "WHERE a.a_idx=dc.a_idx and dc.d_idx=#{d_idx} AND a.a_active = 1")
+    /**
+     * 전시관람 - 전시 작품 목록 (전시 제목, 작가 이름, 작품 사진까지 한 번에)
+     * @param d_idx 전시 인덱스
+     * @return 작품 리스트 (신청 순)
+     */
+    @Select("SELECT dc.dc_idx, d.d_idx, d.d_title, a.a_idx, a.a_name, a.a_width, a.a_height, a.a_depth, a.a_form, a.a_year, " +
+            "a.u_idx, u.u_name, ap.pic_url " +
+            "FROM display_content dc JOIN display d ON d.d_idx = dc.d_idx " +
+            "JOIN artwork a ON a.a_idx = dc.a_idx JOIN user u ON u.u_idx = a.u_idx " +
+            "LEFT JOIN artworkPic ap ON ap.a_idx = a.a_idx " +
+            "WHERE dc.d_idx = #{d_idx} AND a.a_active = 1 ORDER BY dc.dc_idx")
     List<DisplayContentRes> findArtworksByDisplayIdx(@Param("d_idx") final int d_idx);
 
     @Insert("INSERT INTO display_content(d_idx, a_idx, u_idx, dc_date) VALUES (#{displayReq.d_idx}, #{displayReq.a_idx}, #{displayReq.u_idx},  #{displayReq.dc_date})")
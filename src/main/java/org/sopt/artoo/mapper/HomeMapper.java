@@ -3,6 +3,7 @@ package org.sopt.artoo.mapper;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
+import org.sopt.artoo.dto.ArtistLikeCount;
 import org.sopt.artoo.dto.Home;
 import org.sopt.artoo.dto.HomeData;
 import org.sopt.artoo.dto.Tag;
@@ -14,12 +15,16 @@ import java.util.List;
 public interface HomeMapper {
 
     /**
-     * 좋아요가 많은 5명의 작가 순서대로
+     * 기간 안에 활성화 작품이 받은 좋아요 수 (작가별)
+     * al_date 에 함수를 씌우지 않고 범위로 찾는다.
+     * @param start 시작 (포함, yyyy-MM-dd)
+     * @param end 끝 (미포함, yyyy-MM-dd)
+     * @return 작가별 좋아요 수
      */
-    @Select("SELECT  a.u_idx FROM (SELECT artworkLike.a_idx, artwork.u_idx, COUNT(artworkLike.a_idx) AS C " +
-            "FROM artworkLike, artwork WHERE artwork.a_idx = artworkLike.a_idx AND artwork.a_active = 1 AND MONTH(al_date)=#{month} && YEAR(al_date)=#{year}" +
-            "GROUP BY artworkLike.a_idx) a GROUP BY a.u_idx ORDER BY sum(C) DESC LIMIT 5")
-    List<Integer> findTodayUserIdx(@Param("month") final String month, @Param("year") final String year);
+    @Select("SELECT artwork.u_idx, COUNT(*) AS like_count FROM artworkLike, artwork " +
+            "WHERE artwork.a_idx = artworkLike.a_idx AND artwork.a_active = 1 " +
+            "AND artworkLike.al_date >= #{start} AND artworkLike.al_date < #{end} GROUP BY artwork.u_idx")
+    List<ArtistLikeCount> findArtistLikeCountBetween(@Param("start") final String start, @Param("end") final String end);
 
 
     /**
@@ -1,7 +1,10 @@
 package org.sopt.artoo.mapper;
 
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.session.ResultHandler;
 import org.sopt.artoo.dto.Purchase;
+import org.sopt.artoo.dto.PurchaseDetail;
+import org.sopt.artoo.dto.PurchaseNotice;
 import org.sopt.artoo.model.PurchaseReq;
 
 import java.util.List;
@@ -9,6 +12,19 @@ import java.util.List;
 @Mapper
 public interface PurchaseMapper {
 
+    /**
+     * 관리자 거래 내역 (구매 + 작품명 + 구매자/판매자 정보)
+     */
+    String PURCHASE_DETAIL_SELECT = "SELECT p.p_idx, p.p_state, p.p_date, p.p_comment, p.a_idx, a.a_name, " +
+            "bu.u_name AS p_buyer_name, bu.u_phone AS p_buyer_phone, " +
+            "CONCAT(IFNULL(bu.u_bank, ''), ':', IFNULL(bu.u_account, '')) AS p_buyer_account, " +
+            "su.u_name AS p_seller_name, su.u_phone AS p_seller_phone, " +
+            "CONCAT(IFNULL(su.u_bank, ''), ':', IFNULL(su.u_account, '')) AS p_seller_account, " +
+            "p.p_recipient, p.p_address, p.p_price FROM purchase p " +
+            "LEFT JOIN artwork a ON p.a_idx = a.a_idx " +
+            "LEFT JOIN user bu ON p.p_buyer_idx = bu.u_idx " +
+            "LEFT JOIN user su ON p.p_seller_idx = su.u_idx ";
+
 
     /**
      * 구매 정보 저장
@@ -23,9 +39,37 @@ public interface PurchaseMapper {
     @Options(useGeneratedKeys = true, keyColumn = "purchase.p_idx")
     int savePurchaseData(@Param("purchaseReq") final PurchaseReq purchaseReq);
 
+    /**
+     * 관리자 - 전체 거래 내역 (스트리밍, p_idx 내림차순)
+     * 한 줄씩 resultHandler 로 넘기고 결과 리스트를 만들지 않는다.
+     *
+     * @param resultHandler 거래 내역 한 개씩 처리
+     */
+    @Select(PURCHASE_DETAIL_SELECT + "ORDER BY p.p_idx DESC")
+    @Options(fetchSize = Integer.MIN_VALUE)
+    @ResultType(PurchaseDetail.class)
+    void streamAllPurchaseDetail(final ResultHandler<PurchaseDetail> resultHandler);
+
+    /**
+     * 관리자 - 거래 내역 페이지 (p_idx 내림차순)
+     *
+     * @param p_idx 이전 페이지 마지막 거래 인덱스 (-1 이면 첫 페이지)
+     * @param limit 최대 개수
+     * @return List<PurchaseDetail>
+     */
+    @Select("<script>" + PURCHASE_DETAIL_SELECT + "<if test='p_idx != -1'>WHERE p.p_idx &lt; #{p_idx} </if>" +
+            "ORDER BY p.p_idx DESC LIMIT #{limit}</script>")
+    List<PurchaseDetail> findPurchaseDetailPage(@Param("p_idx") final int p_idx, @Param("limit") final int limit);
+
+    /**
+     * 관리자 - 특정 회원의 거래 내역 (구매 + 판매)
+     *
+     * @param u_idx
+     * @return List<PurchaseDetail>
+     */
+    @Select(PURCHASE_DETAIL_SELECT + "WHERE p.p_buyer_idx = #{u_idx} OR p.p_seller_idx = #{u_idx} ORDER BY p.p_date DESC")
+    List<PurchaseDetail> findPurchaseDetailByUserIdx(@Param("u_idx") final int u_idx);
 
-    @Select("SELECT * FROM purchase")
-    List<Purchase> findAllPurchaseRecord();
     /**
      * 특정 회원의 구매 내역 반환
      *
@@ -38,22 +82,28 @@ public interface PurchaseMapper {
     List<Purchase> findTransactionByUserIdx(@Param("u_idx") final int u_idx);
 
     /**
-     * 구매 조회 - p_state 가 결제 완료인 로우만
+     * 구매 알림 - 구매 내역 + 작품명, 작가 이름, 작품 사진 (쿼리 1번)
      *
      * @param p_buyer_idx
-     * @return List<Purchase> 구매
+     * @return List<PurchaseNotice> 구매
      */
-    @Select("SELECT * FROM purchase WHERE p_buyer_idx=#{p_buyer_idx} order by p_date DESC")
-    List<Purchase> findByBuyerIdx(@Param("p_buyer_idx") final int p_buyer_idx);
+    @Select("SELECT p.*, a.a_name, au.u_name AS a_u_name, ap.pic_url AS a_pic_url FROM purchase p " +
+            "INNER JOIN artwork a ON p.a_idx = a.a_idx INNER JOIN user au ON a.u_idx = au.u_idx " +
+            "LEFT JOIN artworkPic ap ON p.a_idx = ap.a_idx " +
+            "WHERE p.p_buyer_idx = #{p_buyer_idx} ORDER BY p.p_date DESC")
+    List<PurchaseNotice> findBuyNoticeByBuyerIdx(@Param("p_buyer_idx") final int p_buyer_idx);
 
     /**
-     * 판매 조회 - p_state 가 판매 완료인 로우만
+     * 판매 알림 - 판매 내역 + 작품명, 작가 이름, 작품 사진 (쿼리 1번)
      *
      * @param p_seller_idx
-     * @return List<Purchase> 판매
+     * @return List<PurchaseNotice> 판매
      */
-    @Select("SELECT * FROM purchase WHERE p_seller_idx=#{p_seller_idx} order by p_date DESC")
-    List<Purchase> findBySellerIdx(@Param("p_seller_idx") final int p_seller_idx);
+    @Select("SELECT p.*, a.a_name, au.u_name AS a_u_name, ap.pic_url AS a_pic_url FROM purchase p " +
+            "INNER JOIN artwork a ON p.a_idx = a.a_idx INNER JOIN user au ON a.u_idx = au.u_idx " +
+            "LEFT JOIN artworkPic ap ON p.a_idx = ap.a_idx " +
+            "WHERE p.p_seller_idx = #{p_seller_idx} ORDER BY p.p_date DESC")
+    List<PurchaseNotice> findSellNoticeBySellerIdx(@Param("p_seller_idx") final int p_seller_idx);
 
     /**
      * 미술작품 인덱스로 미완료 거래조회
@@ -4,12 +4,16 @@ import lombok.Data;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.ArrayList;
 import java.util.List;
 
 
 @Getter
 @Setter
 public class ArtworkFilterReq {
+    // MySQL ngram_token_size 기본값, 이보다 짧은 검색어는 FULLTEXT 인덱스로 못 찾음
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
     //filter category, size, type
     //작품 사이즈
     private String a_size;
@@ -20,10 +24,36 @@ public class ArtworkFilterReq {
 
     private String a_keyword;
 
+    // 검색어가 들어간 형태/카테고리 값 (ArtworkFilterIndex.matchForms/matchCategories, 검색 쿼리에서 IN 으로 찾음)
+    private List<String> a_matchForms = new ArrayList<>();
+    private List<String> a_matchCategories = new ArrayList<>();
+
     public ArtworkFilterReq(String a_size, String a_form, String a_category, String a_keyword) {
         this.a_size = a_size;
         this.a_form = a_form;
         this.a_category = a_category;
         this.a_keyword = a_keyword;
     }
+
+    /**
+     * LIKE 검색어 (검색어의 \, %, _ 는 글자 그대로 찾도록 이스케이프)
+     *
+     * @return %keyword%
+     */
+    public String getA_likeKeyword() {
+        return '%' + a_keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + '%';
+    }
+
+    /**
+     * FULLTEXT BOOLEAN MODE 검색어 (연산자 제거 후 "keyword" 구문 검색)
+     *
+     * @return 검색어, ngram 토큰보다 짧으면 null
+     */
+    public String getA_searchKeyword() {
+        final String phrase = a_keyword.replaceAll("[+\\-<>()~*\"@]", " ").trim().replaceAll("\\s+", " ");
+        if (phrase.codePointCount(0, phrase.length()) < NGRAM_TOKEN_SIZE) {
+            return null;
+        }
+        return '"' + phrase + '"';
+    }
 }
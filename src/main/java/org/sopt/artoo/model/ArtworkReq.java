@@ -36,6 +36,8 @@ public class ArtworkReq {
     private String a_year;
     // 작품 사진
     private MultipartFile pic_url;
+    // 작품 사진 분할 업로드 id (pic_url 대신, 조각을 모두 보낸 업로드)
+    private String upload_id;
     // 작품 테그
     private String a_tags;
     // 작품 라이센스
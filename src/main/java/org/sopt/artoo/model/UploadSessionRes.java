@@ -0,0 +1,17 @@
+package org.sopt.artoo.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class UploadSessionRes {
+    // 분할 업로드 id
+    private String upload_id;
+    // 조각 크기 (마지막 조각만 더 작음)
+    private long part_size;
+    // 조각 수
+    private int part_count;
+    // 받은 조각 번호 (이어 보낼 때 빠진 번호만 보내면 됨)
+    private List<Integer> parts;
+}
@@ -1,20 +1,28 @@
 package org.sopt.artoo.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.sopt.artoo.dto.Purchase;
 import org.sopt.artoo.dto.PurchaseDetail;
 import org.sopt.artoo.dto.User;
-import org.sopt.artoo.mapper.ArtworkMapper;
 import org.sopt.artoo.mapper.PurchaseMapper;
 import org.sopt.artoo.mapper.UserMapper;
 import org.sopt.artoo.model.DefaultRes;
 import org.sopt.artoo.model.LoginReq;
+import org.sopt.artoo.utils.JsonListWriter;
 import org.sopt.artoo.utils.ResponseMessage;
 import org.sopt.artoo.utils.StatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
-import java.util.ArrayList;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
 import java.util.List;
 
 @Service
@@ -23,13 +31,19 @@ public class AdminService {
     private final JwtService jwtService;
     private final UserMapper userMapper;
     private final PurchaseMapper purchaseMapper;
-    private final ArtworkMapper artworkMapper;
+    private final ObjectMapper objectMapper;
 
-    public AdminService(JwtService jwtService, final UserMapper userMapper, final PurchaseMapper purchaseMapper, final ArtworkMapper artworkMapper) {
+    // 관리자 거래 내역 페이지 크기
+    private static final int PURCHASE_PAGE_SIZE = 50;
+    private static final String CSV_HEADER = "p_idx,p_state,p_date,p_comment,a_idx,a_name,p_buyer_name,p_buyer_phone,p_buyer_account," +
+            "p_seller_name,p_seller_phone,p_seller_account,p_recipient,p_address,p_price\r\n";
+    private static final String CSV_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
+
+    public AdminService(JwtService jwtService, final UserMapper userMapper, final PurchaseMapper purchaseMapper, final ObjectMapper objectMapper) {
         this.jwtService = jwtService;
         this.userMapper = userMapper;
         this.purchaseMapper = purchaseMapper;
-        this.artworkMapper = artworkMapper;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -55,40 +69,60 @@ public class AdminService {
     }
 
     /**
-     * 모든 PurchaseList 반환
+     * 모든 PurchaseList 반환 (스트리밍 JSON)
+     * 거래 내역 수와 상관없이 쿼리 1번, 한 줄씩 바로 응답에 쓴다.
      *
-     * @param
-     * @return List<Purchase>
+     * @param outputStream 응답 스트림
      */
-    public DefaultRes<List<PurchaseDetail>> findAllUserPurchase() {
+    public void writeAllUserPurchase(final OutputStream outputStream) throws IOException {
+        try (JsonListWriter writer = new JsonListWriter(objectMapper, outputStream, ResponseMessage.READ_ALL_CONTENTS)) {
+            purchaseMapper.streamAllPurchaseDetail(resultContext -> writer.write(resultContext.getResultObject()));
+            writer.finish();
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 모든 PurchaseList 반환 (스트리밍 CSV, 엑셀에서 한글이 깨지지 않도록 BOM 포함)
+     * 중간에 실패하면 남은 버퍼를 내보내지 않고 예외를 던져, 잘린 파일이 정상 응답처럼 끝나지 않게 한다.
+     *
+     * @param outputStream 응답 스트림
+     */
+    public void writeAllUserPurchaseCsv(final OutputStream outputStream) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
         try {
-            List<Purchase> userPurchaseList = purchaseMapper.findAllPurchaseRecord();
-            List<PurchaseDetail> result = new ArrayList<>();
-            for (Purchase purchase : userPurchaseList) {
-                PurchaseDetail purchaseDetail = new PurchaseDetail();
-                purchaseDetail.setP_idx(purchase.getP_idx());
-                purchaseDetail.setP_state(purchase.getP_state());
-                purchaseDetail.setP_date(purchase.getP_date());
-                purchaseDetail.setP_comment(purchase.getP_comment());
-                purchaseDetail.setA_idx(purchase.getA_idx());
-                purchaseDetail.setA_name(artworkMapper.findByIdx(purchase.getA_idx()).getA_name());
-                purchaseDetail.setP_buyer_name(userMapper.findByUidx(purchase.getP_buyer_idx()).getU_name());
-                purchaseDetail.setP_buyer_phone(userMapper.findByUidx(purchase.getP_buyer_idx()).getU_phone());
-                purchaseDetail.setP_buyer_account(userMapper.findByUidx(purchase.getP_buyer_idx()).getU_bank() + ":" + userMapper.findByUidx(purchase.getP_buyer_idx()).getU_account());
-                purchaseDetail.setP_seller_name(userMapper.findByUidx(purchase.getP_seller_idx()).getU_name());
-                purchaseDetail.setP_seller_phone(userMapper.findByUidx(purchase.getP_seller_idx()).getU_phone());
-                purchaseDetail.setP_seller_account(userMapper.findByUidx(purchase.getP_seller_idx()).getU_bank() + ":" + userMapper.findByUidx(purchase.getP_seller_idx()).getU_account());
-                purchaseDetail.setP_recipient(purchase.getP_recipient());
-                purchaseDetail.setP_address(purchase.getP_address());
-                purchaseDetail.setP_price(purchase.getP_price());
-                result.add(purchaseDetail);
-            }
-            if (userPurchaseList != null) {
-                return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ALL_CONTENTS, result);
+            writer.write('\uFEFF');
+            writer.write(CSV_HEADER);
+            purchaseMapper.streamAllPurchaseDetail(resultContext -> {
+                try {
+                    writer.write(toCsvLine(resultContext.getResultObject()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * PurchaseList 페이지 반환 (p_idx 내림차순)
+     *
+     * @param p_idx 이전 페이지 마지막 거래 인덱스 (-1 이면 첫 페이지)
+     * @return List<PurchaseDetail>
+     */
+    public DefaultRes<List<PurchaseDetail>> findUserPurchasePage(final int p_idx) {
+        try {
+            List<PurchaseDetail> result = purchaseMapper.findPurchaseDetailPage(p_idx, PURCHASE_PAGE_SIZE);
+            if (result.isEmpty()) {
+                return DefaultRes.res(StatusCode.NO_CONTENT, ResponseMessage.NOT_FOUND_CONTENT, result);
             }
-            return DefaultRes.res(StatusCode.NO_CONTENT, ResponseMessage.NOT_FOUND_CONTENT);
+            return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ALL_CONTENTS, result);
         } catch (Exception e) {
-            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             log.error(e.getMessage());
             return DefaultRes.res(StatusCode.DB_ERROR, ResponseMessage.DB_ERROR);
         }
@@ -104,28 +138,8 @@ public class AdminService {
         final User user = userMapper.findByEmail(email);
         if (user != null) {
             try {
-                List<Purchase> userPurchaseList = purchaseMapper.findTransactionByUserIdx(user.getU_idx());
-                List<PurchaseDetail> result = new ArrayList<>();
-                for (Purchase purchase : userPurchaseList) {
-                    PurchaseDetail purchaseDetail = new PurchaseDetail();
-                    purchaseDetail.setP_idx(purchase.getP_idx());
-                    purchaseDetail.setP_state(purchase.getP_state());
-                    purchaseDetail.setP_date(purchase.getP_date());
-                    purchaseDetail.setP_comment(purchase.getP_comment());
-                    purchaseDetail.setA_idx(purchase.getA_idx());
-                    purchaseDetail.setA_name(artworkMapper.findByIdx(purchase.getA_idx()).getA_name());
-                    purchaseDetail.setP_buyer_name(userMapper.findByUidx(purchase.getP_buyer_idx()).getU_name());
-                    purchaseDetail.setP_buyer_phone(userMapper.findByUidx(purchase.getP_buyer_idx()).getU_phone());
-                    purchaseDetail.setP_buyer_account(userMapper.findByUidx(purchase.getP_buyer_idx()).getU_bank() + ":" + userMapper.findByUidx(purchase.getP_buyer_idx()).getU_account());
-                    purchaseDetail.setP_seller_name(userMapper.findByUidx(purchase.getP_seller_idx()).getU_name());
-                    purchaseDetail.setP_seller_phone(userMapper.findByUidx(purchase.getP_seller_idx()).getU_phone());
-                    purchaseDetail.setP_seller_account(userMapper.findByUidx(purchase.getP_seller_idx()).getU_bank() + ":" + userMapper.findByUidx(purchase.getP_seller_idx()).getU_account());
-                    purchaseDetail.setP_recipient(purchase.getP_recipient());
-                    purchaseDetail.setP_address(purchase.getP_address());
-                    purchaseDetail.setP_price(purchase.getP_price());
-                    result.add(purchaseDetail);
-                }
-                if (userPurchaseList != null) {
+                List<PurchaseDetail> result = purchaseMapper.findPurchaseDetailByUserIdx(user.getU_idx());
+                if (result != null) {
                     return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ALL_CONTENTS, result);
                 }
                 return DefaultRes.res(StatusCode.NO_CONTENT, ResponseMessage.NOT_FOUND_CONTENT);
@@ -138,6 +152,32 @@ public class AdminService {
         return DefaultRes.res(StatusCode.NOT_FOUND, ResponseMessage.NOT_FOUND_USER);
     }
 
+    private static String toCsvLine(final PurchaseDetail purchaseDetail) {
+        return String.join(",",
+                String.valueOf(purchaseDetail.getP_idx()),
+                String.valueOf(purchaseDetail.getP_state()),
+                csv(purchaseDetail.getP_date() == null ? null : new SimpleDateFormat(CSV_DATE_FORMAT).format(purchaseDetail.getP_date())),
+                csv(purchaseDetail.getP_comment()),
+                String.valueOf(purchaseDetail.getA_idx()),
+                csv(purchaseDetail.getA_name()),
+                csv(purchaseDetail.getP_buyer_name()),
+                csv(purchaseDetail.getP_buyer_phone()),
+                csv(purchaseDetail.getP_buyer_account()),
+                csv(purchaseDetail.getP_seller_name()),
+                csv(purchaseDetail.getP_seller_phone()),
+                csv(purchaseDetail.getP_seller_account()),
+                csv(purchaseDetail.getP_recipient()),
+                csv(purchaseDetail.getP_address()),
+                String.valueOf(purchaseDetail.getP_price())) + "\r\n";
+    }
+
+    private static String csv(final String value) {
+        if (value == null) return "";
+        // 엑셀이 수식으로 실행하지 않도록 = + - @ (탭, CR) 로 시작하는 값은 ' 를 붙인다
+        final String text = !value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
     /**
      * 해당 거래 내역 조회
      *
@@ -1,50 +1,101 @@
 package org.sopt.artoo.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.StdDateFormat;
 import lombok.extern.slf4j.Slf4j;
 import org.sopt.artoo.dto.*;
 import org.sopt.artoo.mapper.*;
 import org.sopt.artoo.model.*;
 import org.sopt.artoo.mapper.ArtworkMapper;
 import org.sopt.artoo.mapper.ArtworkPicMapper;
+import org.sopt.artoo.utils.JsonListWriter;
 import org.sopt.artoo.utils.ResponseMessage;
 import org.sopt.artoo.utils.StatusCode;
+import org.sopt.artoo.utils.cache.ArtworkCountCache;
+import org.sopt.artoo.utils.cache.ArtworkFilterIndex;
+import org.sopt.artoo.utils.cache.ArtworkTagIndex;
+import org.sopt.artoo.utils.cache.CommentPageCache;
+import org.sopt.artoo.utils.cache.DisplayCalendar;
+import org.sopt.artoo.utils.cache.DisplayGalleryCache;
+import org.sopt.artoo.utils.cache.MonthlyLikeLeaderboard;
+import org.sopt.artoo.utils.cache.TodayArtistCache;
+import org.sopt.artoo.utils.cache.UserCache;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 public class ArtworkService {
 
+    // 필터 한 페이지 작품 수
+    private static final int FILTER_PAGE_SIZE = 15;
+    // 해시 이름 사진을 정리하기 전 기다리는 시간 (업로드 요청 제한 시간보다 충분히 길게)
+    private static final long PIC_SWEEP_IDLE_MILLIS = 60 * 60 * 1000;
+
     private final ArtworkMapper artworkMapper;
     private final ArtworkPicMapper artworkPicMapper;
-    private final UserMapper userMapper;
+    private final UserCache userCache;
     private final ArtworkLikeMapper artworkLikeMapper;
+    private final ImageRenditionService imageRenditionService;
     private final S3FileUploadService s3FileUploadService;
+    private final ChunkedUploadService chunkedUploadService;
     private final PurchaseMapper purchaseMapper;
     private final CommentMapper commentMapper;
     private final DisplayContentMapper displayContentMapper;
     private final DisplayMapper displayMapper;
-
-    public ArtworkService(ArtworkMapper artworkMapper, ArtworkPicMapper artworkPicMapper, UserMapper userMapper, ArtworkLikeMapper artworkLikeMapper, S3FileUploadService s3FileUploadService, PurchaseMapper purchaseMapper, CommentMapper commentMapper, DisplayContentMapper displayContentMapper, DisplayMapper displayMapper) {
+    private final ArtworkCountCache artworkCountCache;
+    private final ArtworkFilterIndex artworkFilterIndex;
+    private final ArtworkTagIndex artworkTagIndex;
+    private final TodayArtistCache todayArtistCache;
+    private final DisplayCalendar displayCalendar;
+    private final DisplayGalleryCache displayGalleryCache;
+    private final CommentPageCache commentPageCache;
+    private final MonthlyLikeLeaderboard monthlyLikeLeaderboard;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public ArtworkService(ArtworkMapper artworkMapper, ArtworkPicMapper artworkPicMapper, UserCache userCache, ArtworkLikeMapper artworkLikeMapper, ImageRenditionService imageRenditionService, S3FileUploadService s3FileUploadService, ChunkedUploadService chunkedUploadService, PurchaseMapper purchaseMapper, CommentMapper commentMapper, DisplayContentMapper displayContentMapper, DisplayMapper displayMapper, ArtworkCountCache artworkCountCache, ArtworkFilterIndex artworkFilterIndex, ArtworkTagIndex artworkTagIndex, TodayArtistCache todayArtistCache, DisplayCalendar displayCalendar, DisplayGalleryCache displayGalleryCache, CommentPageCache commentPageCache, MonthlyLikeLeaderboard monthlyLikeLeaderboard, ObjectMapper objectMapper, TransactionTemplate transactionTemplate) {
         this.artworkMapper = artworkMapper;
         this.artworkPicMapper = artworkPicMapper;
-        this.userMapper = userMapper;
+        this.userCache = userCache;
         this.artworkLikeMapper = artworkLikeMapper;
+        this.imageRenditionService = imageRenditionService;
         this.s3FileUploadService = s3FileUploadService;
+        this.chunkedUploadService = chunkedUploadService;
         this.purchaseMapper = purchaseMapper;
         this.commentMapper = commentMapper;
         this.displayContentMapper = displayContentMapper;
         this.displayMapper = displayMapper;
+        this.artworkCountCache = artworkCountCache;
+        this.artworkFilterIndex = artworkFilterIndex;
+        this.artworkTagIndex = artworkTagIndex;
+        this.todayArtistCache = todayArtistCache;
+        this.displayCalendar = displayCalendar;
+        this.displayGalleryCache = displayGalleryCache;
+        this.commentPageCache = commentPageCache;
+        this.monthlyLikeLeaderboard = monthlyLikeLeaderboard;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
@@ -54,10 +105,8 @@ public class ArtworkService {
      */
     public DefaultRes<List<Artwork>> findAll(final int a_idx) {
         List<Artwork> artworkList = artworkMapper.findAll(a_idx);
-        final int numArtwork = artworkMapper.findRealAll().size();
-        for (Artwork artwork : artworkList) {
-            artwork.setPic_url(artworkPicMapper.findByArtIdx(artwork.getA_idx()).getPic_url());
-        }
+        final int numArtwork = artworkCountCache.get();
+        setArtworkPicUrl(artworkList);
         return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ALL_CONTENTS + numArtwork, artworkList);
     }
 
@@ -68,36 +117,134 @@ public class ArtworkService {
      */
     public DefaultRes<List<ArtworkMini>> findAllIndexAndUrl(final int a_idx) {
         List<ArtworkMini> artworkMiniList = artworkMapper.findAllIndexAndUrl(a_idx);
-        final int numArtwork = artworkMapper.findRealAll().size();
-        for (ArtworkMini artworkMini : artworkMiniList) {
-            artworkMini.setPic_url(artworkPicMapper.findByArtIdx(artworkMini.getA_idx()).getPic_url());
-        }
+        final int numArtwork = artworkCountCache.get();
+        setArtworkMiniPicUrl(artworkMiniList);
         return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ALL_CONTENTS + numArtwork, artworkMiniList);
     }
 
 
     /**
-     * 모든 작품 조회 - ios
+     * 모든 작품 조회 - ios (스트리밍)
+     * DB 에서 한 줄 읽을 때마다 바로 JSON 으로 써서 전체 목록을 메모리에 올리지 않는다.
+     *
+     * @param outputStream 응답 스트림
+     * @param userIdx      요청 유저 인덱스
+     */
+    public void writeAllIos(final OutputStream outputStream, final int userIdx) throws IOException {
+        try (JsonListWriter writer = new JsonListWriter(objectMapper, outputStream, ResponseMessage.READ_ALL_CONTENTS)) {
+            artworkMapper.streamAllIos(resultContext -> {
+                final Artwork artwork = resultContext.getResultObject();
+                artwork.setAuth(userIdx == artwork.getU_idx());
+                writer.write(artwork);
+            });
+            writer.finish();
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 모든 작품 조회(인덱스랑 url만) - ios (스트리밍)
+     *
+     * @param outputStream 응답 스트림
+     */
+    public void writeAllIndexAndUrlIos(final OutputStream outputStream) throws IOException {
+        try (JsonListWriter writer = new JsonListWriter(objectMapper, outputStream, ResponseMessage.READ_ALL_CONTENTS)) {
+            artworkMapper.streamAllIndexAndUrlIos(resultContext -> writer.write(resultContext.getResultObject()));
+            writer.finish();
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 작품 페이지 조회 - ios
+     *
+     * @param a_idx  이전 페이지 마지막 작품 인덱스 (-1 이면 첫 페이지)
+     * @param a_date 이전 페이지 마지막 작품 a_date (받은 값 그대로 또는 epoch 밀리초, 첫 페이지가 아니면 필수)
+     * @return DefaultRes
+     */
+    public DefaultRes<List<Artwork>> findPageIos(final int a_idx, final String a_date) {
+        final Date cursorDate = parseCursorDate(a_idx, a_date);
+        if (a_idx != -1 && cursorDate == null) {
+            return DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.NOT_FOUND_REQUIRE_PARAMS, new ArrayList<>());
+        }
+        List<Artwork> artworkList = artworkMapper.findPageIos(cursorDate, a_idx);
+        final int numArtwork = artworkCountCache.get();
+        setArtworkPicUrl(artworkList);
+        return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ALL_CONTENTS + numArtwork, artworkList);
+    }
+
+    /**
+     * 작품 페이지 조회(인덱스랑 url만) - ios
      *
+     * @param a_idx  이전 페이지 마지막 작품 인덱스 (-1 이면 첫 페이지)
+     * @param a_date 이전 페이지 마지막 작품 a_date (받은 값 그대로 또는 epoch 밀리초, 첫 페이지가 아니면 필수)
      * @return DefaultRes
      */
-    public DefaultRes<List<Artwork>> findAllIos() {
-        List<Artwork> artworkList = artworkMapper.findAllIos();
+    public DefaultRes<List<ArtworkMini>> findIndexAndUrlPageIos(final int a_idx, final String a_date) {
+        final Date cursorDate = parseCursorDate(a_idx, a_date);
+        if (a_idx != -1 && cursorDate == null) {
+            return DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.NOT_FOUND_REQUIRE_PARAMS, new ArrayList<>());
+        }
+        List<ArtworkMini> artworkMiniList = artworkMapper.findIndexAndUrlPageIos(cursorDate, a_idx);
+        final int numArtwork = artworkCountCache.get();
+        setArtworkMiniPicUrl(artworkMiniList);
+        return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ALL_CONTENTS + numArtwork, artworkMiniList);
+    }
+
+    // 페이지 커서 날짜 (첫 페이지거나 없거나 읽을 수 없으면 null)
+    private static Date parseCursorDate(final int a_idx, final String a_date) {
+        if (a_idx == -1 || a_date == null || a_date.isEmpty()) return null;
+        try {
+            // 응답의 Jackson 날짜 형식과 epoch 밀리초 둘 다 읽는다
+            return new StdDateFormat().parse(a_date);
+        } catch (ParseException e) {
+            log.error(e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 작품 리스트 사진 url 일괄 설정 (작품 수와 상관없이 쿼리 1번)
+     *
+     * @param artworkList 작품 리스트
+     */
+    private void setArtworkPicUrl(final List<Artwork> artworkList) {
+        List<Integer> artIdxList = new ArrayList<>();
         for (Artwork artwork : artworkList) {
-            artwork.setPic_url(artworkPicMapper.findByArtIdx(artwork.getA_idx()).getPic_url());
+            artIdxList.add(artwork.getA_idx());
+        }
+        final Map<Integer, ArtworkPic> picMap = artworkPicMapper.findMapByArtIdxList(artIdxList);
+        for (Artwork artwork : artworkList) {
+            final ArtworkPic artworkPic = picMap.get(artwork.getA_idx());
+            if (artworkPic != null) {
+                artwork.setPic_url(artworkPic.getPic_url());
+                artwork.setPic_thumb_url(artworkPic.getPic_thumb_url());
+            }
         }
-        return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ALL_CONTENTS, artworkList);
     }
 
     /**
-     * 모든 작품 조회(인덱스랑 url만) - ios
+     * 작품 리스트(인덱스랑 url만) 사진 url 일괄 설정
+     *
+     * @param artworkMiniList 작품 리스트
      */
-    public DefaultRes<List<ArtworkMini>> findAllIndexAndUrlIos() {
-        List<ArtworkMini> artworkMiniList = artworkMapper.findAllIndexAndUrlIos();
+    private void setArtworkMiniPicUrl(final List<ArtworkMini> artworkMiniList) {
+        List<Integer> artIdxList = new ArrayList<>();
         for (ArtworkMini artworkMini : artworkMiniList) {
-            artworkMini.setPic_url(artworkPicMapper.findByArtIdx(artworkMini.getA_idx()).getPic_url());
+            artIdxList.add(artworkMini.getA_idx());
+        }
+        final Map<Integer, ArtworkPic> picMap = artworkPicMapper.findMapByArtIdxList(artIdxList);
+        for (ArtworkMini artworkMini : artworkMiniList) {
+            final ArtworkPic artworkPic = picMap.get(artworkMini.getA_idx());
+            if (artworkPic != null) {
+                artworkMini.setPic_url(artworkPic.getPic_url());
+                artworkMini.setPic_thumb_url(artworkPic.getPic_thumb_url());
+            }
         }
-        return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ALL_CONTENTS, artworkMiniList);
     }
 
 
@@ -128,7 +275,7 @@ public class ArtworkService {
         if (artwork == null) {
             return DefaultRes.res(StatusCode.FORBIDDEN, ResponseMessage.NOT_FOUND_ARTWORK);
         }
-        User user = userMapper.findByUidx(artwork.getU_idx());
+        User user = userCache.findByUidx(artwork.getU_idx());
         if (user == null) {
             return DefaultRes.res(StatusCode.NOT_FOUND, ResponseMessage.NOT_FOUND_USER);
         }
@@ -179,26 +326,47 @@ public class ArtworkService {
         return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_CONTENT, artwork.getA_like_count());
     }
 
+    /**
+     * 좋아요 / 좋아요 취소
+     * a_like_count 는 DB 에서 +1/-1 하고, 좋아요 행은 있을 때만 지우고 없을 때만 넣어서 동시에 눌러도 어긋나지 않는다.
+     * 응답의 좋아요 수는 다시 읽지 않고 계산한다.
+     *
+     * @param a_idx 작품 인덱스
+     * @param u_idx 유저 인덱스
+     * @return 좋아요 반영된 작품
+     */
     @Transactional
     public DefaultRes saveArtworkLike(final int a_idx, final int u_idx) {
-        Artwork artwork = findByArtIdx(a_idx).getData();
         try {
+            final Artwork artwork = artworkMapper.findByIdxWithPic(a_idx);
             if (artwork == null) {
                 return DefaultRes.res(StatusCode.FORBIDDEN, ResponseMessage.NOT_FOUND_CONTENT);
             }
-            ArtworkLike artworkLike = artworkLikeMapper.findByUserIdxAndArtworkIdx(u_idx, a_idx);
-            if (artworkLike == null) {
-                artworkMapper.like(a_idx, artwork.getA_like_count() + 1);
+            final Date likedAt = artworkLikeMapper.findDateByUserIdxAndArtworkIdx(u_idx, a_idx);
+            final boolean isLike;
+            final int delta;
+            if (likedAt == null) {
                 Date date = new Date();
                 SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd hh:mm:ss");
-                artworkLikeMapper.save(u_idx, a_idx, sdf.format(date));
+                delta = artworkLikeMapper.saveIfAbsent(u_idx, a_idx, sdf.format(date));
+                isLike = true;
+                if (delta > 0) {
+                    afterCommit(() -> monthlyLikeLeaderboard.like(artwork.getU_idx(), date));
+                }
             } else {
-                artworkMapper.like(a_idx, artwork.getA_like_count() - 1);
-                artworkLikeMapper.deleteByUserIdxAndArtworkIdx(u_idx, a_idx);
+                delta = -artworkLikeMapper.deleteByUserIdxAndArtworkIdx(u_idx, a_idx);
+                isLike = false;
+                if (delta < 0) {
+                    afterCommit(() -> monthlyLikeLeaderboard.unlike(artwork.getU_idx(), likedAt));
+                }
             }
-            artwork = findByArtIdx(a_idx).getData();
-            artwork.setAuth(checkAuth(u_idx, a_idx));
-            artwork.setIslike(checkLike(u_idx, a_idx));
+            if (delta != 0) {
+                artworkMapper.addLikeCount(a_idx, delta);
+                todayArtistCache.invalidate();
+            }
+            artwork.setA_like_count(Math.max(artwork.getA_like_count() + delta, 0));
+            artwork.setAuth(u_idx == artwork.getU_idx());
+            artwork.setIslike(isLike);
             return DefaultRes.res(StatusCode.OK, ResponseMessage.LIKE_CONTENT, artwork);
         } catch (Exception e) {
             log.error(e.getMessage());
@@ -209,67 +377,174 @@ public class ArtworkService {
 
     /**
      * 작품 저장
+     * 사진 업로드가 끝난 뒤에 트랜잭션을 열어서 업로드 동안 요청 스레드와 DB 커넥션을 잡지 않는다.
      *
      * @param artworkReq 작품 데이터
-     * @return DefaultRes
+     * @return DefaultRes future
      */
-    @Transactional
-    public DefaultRes save(final ArtworkReq artworkReq) {
-        if (artworkReq.checkProperties()) {
-            try {
-                log.info("artwork url: " + artworkReq.getPic_url().toString());
-                if (artworkReq.getPic_url() == null) {
-                    return DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.ARTWORK_NOPICUTRE);
-                }
-//                Date date = new Date();
-                Calendar calendar = Calendar.getInstance();
-                java.util.Date date = calendar.getTime();
+    public CompletableFuture<DefaultRes> save(final ArtworkReq artworkReq) {
+        if (!artworkReq.checkProperties()) {
+            return CompletableFuture.completedFuture(DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.FAIL_CREATE_CONTENT));
+        }
+        if (artworkReq.getPic_url() == null && artworkReq.getUpload_id() == null) {
+            return CompletableFuture.completedFuture(DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.ARTWORK_NOPICUTRE));
+        }
+        final CompletableFuture<ArtworkPic> upload = uploadPic(artworkReq);
+        return upload
+                .thenApply(artworkPic -> {
+                    final DefaultRes defaultRes = transactionTemplate.execute(status -> saveWithPic(artworkReq, artworkPic, status));
+                    if (defaultRes.getStatus() != StatusCode.CREATED) deleteUnusedPic(artworkReq, artworkPic);
+                    return defaultRes;
+                })
+                .exceptionally(e -> {
+                    log.error(e.getMessage());
+                    deleteUnusedPic(artworkReq, upload);
+                    return DefaultRes.res(StatusCode.DB_ERROR, ResponseMessage.DB_ERROR);
+                });
+    }
 
-                artworkReq.setA_date(date);
-                artworkMapper.save(artworkReq);
+    private void deleteUnusedPic(final ArtworkReq artworkReq, final CompletableFuture<ArtworkPic> upload) {
+        if (upload.isDone() && !upload.isCompletedExceptionally()) {
+            deleteUnusedPic(artworkReq, upload.join());
+        }
+    }
 
-                final int artIdx = artworkReq.getA_idx();
-                artworkPicMapper.save(artIdx, s3FileUploadService.upload(artworkReq.getPic_url(), "artwork"));
-                return DefaultRes.res(StatusCode.CREATED, ResponseMessage.CREATE_CONTENT);
+    /**
+     * 저장에 실패한 작품 사진 삭제 (롤백 후)
+     * 분할 업로드 원본(uuid 이름)만 이 요청 것이므로 바로 지운다.
+     * 해시 이름 파일(원본, 축소본)은 같은 사진을 올린 다른 요청이 아직 커밋 전일 수 있으므로 sweepUnusedPic 에 맡긴다.
+     *
+     * @param artworkReq 작품 데이터
+     * @param artworkPic 업로드한 사진 주소들
+     */
+    private void deleteUnusedPic(final ArtworkReq artworkReq, final ArtworkPic artworkPic) {
+        if (artworkReq.getUpload_id() != null) {
+            s3FileUploadService.deleteAsync(artworkPic.getPic_url());
+        }
+    }
 
-            } catch (IOException e) {
-                log.info(e.getMessage());
-                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
-                return DefaultRes.res(StatusCode.DB_ERROR, ResponseMessage.DB_ERROR);
-            }
+    /**
+     * 아무 작품도 쓰지 않는 해시 이름 사진 정리 (1시간마다)
+     * 한 시간 동안 업로드 색인에서 주소를 내준 적이 없는 파일만 본다.
+     */
+    @Scheduled(fixedDelay = 60 * 60 * 1000)
+    public void sweepUnusedPic() {
+        final int deleted = s3FileUploadService.sweepIdle(PIC_SWEEP_IDLE_MILLIS, artworkPicMapper::existsByUrl);
+        if (deleted > 0) {
+            log.info("unused artwork pictures deleted: " + deleted);
+        }
+    }
+
+    /**
+     * 작품 사진 업로드 (분할 업로드 id 가 있으면 그 업로드를 완료)
+     *
+     * @param artworkReq 작품 데이터
+     * @return 사진 주소들 future
+     */
+    private CompletableFuture<ArtworkPic> uploadPic(final ArtworkReq artworkReq) {
+        if (artworkReq.getUpload_id() != null) {
+            log.info("artwork upload_id: " + artworkReq.getUpload_id());
+            return chunkedUploadService.complete(artworkReq.getUpload_id(), artworkReq.getU_idx())
+                    .thenCompose(stored -> imageRenditionService.withRenditions(stored)
+                            .whenComplete((artworkPic, e) -> {
+                                // 축소본을 못 만들면 합쳐진 원본은 쓰이지 않으므로 지운다 (DB 저장 실패는 deleteUnusedPic 이 지운다)
+                                if (e != null) s3FileUploadService.deleteAsync(stored.getUrl());
+                            }));
+        }
+        log.info("file name: " + artworkReq.getPic_url().getOriginalFilename());
+        return imageRenditionService.uploadWithRenditions(artworkReq.getPic_url(), "artwork");
+    }
+
+    private DefaultRes saveWithPic(final ArtworkReq artworkReq, final ArtworkPic artworkPic, final TransactionStatus status) {
+        try {
+            Calendar calendar = Calendar.getInstance();
+            java.util.Date date = calendar.getTime();
+
+            artworkReq.setA_date(date);
+            artworkMapper.save(artworkReq);
+
+            final int artIdx = artworkReq.getA_idx();
+            artworkPic.setA_idx(artIdx);
+            artworkPicMapper.save(artworkPic);
+            afterCommit(() -> {
+                artworkCountCache.increase();
+                artworkFilterIndex.put(artIdx, artworkReq.getA_form(), artworkReq.getA_category(), artworkReq.getA_size());
+                artworkTagIndex.put(artIdx, artworkReq.getA_tags());
+            });
+            todayArtistCache.invalidate();
+            return DefaultRes.res(StatusCode.CREATED, ResponseMessage.CREATE_CONTENT);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            status.setRollbackOnly();
+            return DefaultRes.res(StatusCode.DB_ERROR, ResponseMessage.DB_ERROR);
         }
-        return DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.FAIL_CREATE_CONTENT);
     }
 
     /**
      * 작품 데이터 수정
+     * 저장과 같이 사진 업로드가 끝난 뒤에 트랜잭션을 연다.
      *
      * @param artworkReq 작품 데이터
-     * @return DefaultRes
+     * @return DefaultRes future
      */
-    @Transactional
-    public DefaultRes update(final ArtworkReq artworkReq) {
-        if (artworkReq.checkProperties()) {
-            try {
-                log.info("update artwork url: " + artworkReq.getPic_url().toString());
-                log.info("file name: " + artworkReq.getPic_url().getOriginalFilename());
-                if (artworkReq.getPic_url() == null) {
-                    return DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.ARTWORK_NOPICUTRE);
-                }
-                Date date = new Date();
-                artworkReq.setA_date(date);
-                artworkReq.setA_active(true);
-                artworkPicMapper.update(artworkReq.getA_idx(), s3FileUploadService.upload(artworkReq.getPic_url(), "artwork"));
-                artworkMapper.updateByArtIdxReq(artworkReq, artworkReq.getA_idx());
-                return DefaultRes.res(StatusCode.OK, ResponseMessage.UPDATE_CONTENT);
-            } catch (Exception e) {
-                log.error(e.getMessage());
-                e.printStackTrace();
-                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
-                return DefaultRes.res(StatusCode.DB_ERROR, ResponseMessage.DB_ERROR);
-            }
+    public CompletableFuture<DefaultRes> update(final ArtworkReq artworkReq) {
+        if (!artworkReq.checkProperties()) {
+            return CompletableFuture.completedFuture(DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.FAIL_UPDATE_CONTENT));
+        }
+        if (artworkReq.getPic_url() == null && artworkReq.getUpload_id() == null) {
+            return CompletableFuture.completedFuture(DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.ARTWORK_NOPICUTRE));
         }
-        return DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.FAIL_UPDATE_CONTENT);
+        final CompletableFuture<ArtworkPic> upload = uploadPic(artworkReq);
+        return upload
+                .thenApply(artworkPic -> {
+                    final DefaultRes defaultRes = transactionTemplate.execute(status -> updateWithPic(artworkReq, artworkPic, status));
+                    if (defaultRes.getStatus() != StatusCode.OK) deleteUnusedPic(artworkReq, artworkPic);
+                    return defaultRes;
+                })
+                .exceptionally(e -> {
+                    log.error(e.getMessage());
+                    deleteUnusedPic(artworkReq, upload);
+                    return DefaultRes.res(StatusCode.DB_ERROR, ResponseMessage.DB_ERROR);
+                });
+    }
+
+    private DefaultRes updateWithPic(final ArtworkReq artworkReq, final ArtworkPic artworkPic, final TransactionStatus status) {
+        try {
+            Date date = new Date();
+            artworkReq.setA_date(date);
+            artworkReq.setA_active(true);
+            artworkPic.setA_idx(artworkReq.getA_idx());
+            artworkPicMapper.update(artworkPic);
+            artworkMapper.updateByArtIdxReq(artworkReq, artworkReq.getA_idx());
+            // updateByArtIdxReq 는 a_size 를 바꾸지 않으므로 저장된 값으로 색인
+            final Artwork updated = artworkMapper.findByIdx(artworkReq.getA_idx());
+            afterCommit(() -> {
+                artworkFilterIndex.put(updated.getA_idx(), updated.getA_form(), updated.getA_category(), updated.getA_size());
+                artworkTagIndex.put(updated.getA_idx(), updated.getA_tags());
+            });
+            todayArtistCache.invalidate();
+            displayGalleryCache.evictAll();
+            return DefaultRes.res(StatusCode.OK, ResponseMessage.UPDATE_CONTENT);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            e.printStackTrace();
+            status.setRollbackOnly();
+            return DefaultRes.res(StatusCode.DB_ERROR, ResponseMessage.DB_ERROR);
+        }
+    }
+
+    // 커밋된 뒤에만 카운터/색인/순위에 반영 (롤백되면 버린다), 트랜잭션 밖이면 바로 실행
+    private static void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     /**
@@ -285,17 +560,33 @@ public class ArtworkService {
                 artworkLikeMapper.deleteByArtIdx(artIdx);
                 artworkPicMapper.deleteByArtIdx(artIdx);
                 commentMapper.deleteByArtIdx(artIdx);
+                commentPageCache.evict(artIdx);
                 DisplayContent displayContent = displayContentMapper.findByArtworkIdx(artIdx);
                 if (displayContent != null) {
                     displayMapper.deleteByDisplayIdx(displayContent.getD_idx());
+                    displayCalendar.invalidate();
                 }
                 displayContentMapper.deleteByArtIdx(artIdx);
                 artworkMapper.deleteByArtIdx(artIdx);
+                afterCommit(() -> {
+                    artworkCountCache.decrease();
+                    artworkFilterIndex.remove(artIdx);
+                    artworkTagIndex.remove(artIdx);
+                });
+                todayArtistCache.invalidate();
+                displayGalleryCache.evictAll();
                 return DefaultRes.res(StatusCode.NO_CONTENT, ResponseMessage.DELETE_CONTENT);
             } else {
                 Artwork artwork = artworkMapper.findByIdx(artIdx);
                 artwork.setA_active(false);
                 artworkMapper.updateByArtIdx(artwork, artIdx);
+                afterCommit(() -> {
+                    artworkCountCache.decrease();
+                    artworkFilterIndex.remove(artIdx);
+                    artworkTagIndex.remove(artIdx);
+                });
+                todayArtistCache.invalidate();
+                displayGalleryCache.evictAll();
                 return DefaultRes.res(StatusCode.OK, ResponseMessage.UNCOMPLETED_PURCHASE);
             }
         } catch (Exception e) {
@@ -328,7 +619,7 @@ public class ArtworkService {
                 return DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.ARTWORK_NOPICUTRE);
             }
             Artwork artwork = artworkMapper.findByIdx(a_idx); //작품
-            User user = userMapper.findByUidx(artwork.getU_idx());  //작가 인덱스
+            User user = userCache.findByUidx(artwork.getU_idx());  //작가 인덱스
             PurchaseProduct purchaseProduct = new PurchaseProduct();
             purchaseProduct.setArtistSchool(user.getU_school());
             purchaseProduct.setArtistName(user.getU_name());
@@ -442,138 +733,37 @@ public class ArtworkService {
 
     /**
      * size, form, category, keyword 를 이용하여 작품 필터
+     * keyword 가 없으면 ArtworkFilterIndex 비트셋으로, 있으면 LIMIT 15 필터 쿼리 + COUNT 쿼리로 조회 (keyword 는 FULLTEXT 검색)
      *
      * @param artworkFilterReq
+     * @param artIdx 이전 페이지 마지막 작품 인덱스 (-1 이면 첫 페이지)
      * @return Artwork
      */
     @Transactional
     public DefaultRes filterArtworkPic(final ArtworkFilterReq artworkFilterReq, final int artIdx) {
         try {
-            List<ArtworkPic> artworkPicList = new ArrayList<>();
-            List<Integer> artworkIdxList = new ArrayList<>();
-
             String size = artworkFilterReq.getA_size();
             String form = artworkFilterReq.getA_form();
             String category = artworkFilterReq.getA_category();
             String keyword = artworkFilterReq.getA_keyword();
 
             log.info(size + " " + form + " " + category + " " + keyword);
-//            artworkIdxList = artworkMapper.findArtIdxBySize(0, 100000);
-            if (!size.equals("")) {
-                if (artIdx == -1) {
-                    switch (size) {
-                        case "S":
-                            artworkIdxList = artworkMapper.findArtIdxBySize(0, 2411); //사이즈가 S인 a_idx List
-                            break;
-                        case "M":
-                            artworkIdxList = artworkMapper.findArtIdxBySize(2412, 6608); //사이즈가 M인 a_idx List
-                            break;
-                        case "L":
-                            artworkIdxList = artworkMapper.findArtIdxBySize(6609, 10628); //사이즈가 L인 a_idx List
-                            break;
-                        case "XL":
-                            artworkIdxList = artworkMapper.findArtIdxBySize(10629, 21134); //사이즈가 XL인 a_idx List
-                            break;
-                    }
-                } else {
-                    switch (size) {
-                        case "S":
-                            artworkIdxList = artworkMapper.findArtIdxBySizeBelowIdx(0, 2411, artIdx); //사이즈가 S인 a_idx List
-                            break;
-                        case "M":
-                            artworkIdxList = artworkMapper.findArtIdxBySizeBelowIdx(2412, 6608, artIdx); //사이즈가 M인 a_idx List
-                            break;
-                        case "L":
-                            artworkIdxList = artworkMapper.findArtIdxBySizeBelowIdx(6609, 10628, artIdx); //사이즈가 L인 a_idx List
-                            break;
-                        case "XL":
-                            artworkIdxList = artworkMapper.findArtIdxBySizeBelowIdx(10629, 21134, artIdx); //사이즈가 XL인 a_idx List
-                            break;
-                    }
-                }
-            }
-
-            if (artIdx == -1) {
-                if (!form.equals("")) {
-                    List<Integer> artworkIdxByFormList = artworkMapper.findArtIdxByForm(form);
-                    if (artworkIdxList.size() != 0) {
-                        artworkIdxList.retainAll(artworkIdxByFormList); //artworkIdxList에서 artworkIdxByFormList와  공통 요소만 저장 공통 요소만 저장
-                    } else {
-                        artworkIdxList.addAll(artworkIdxByFormList);
-                    }
-                }
-                if (!category.equals("")) {
-                    List<Integer> artworkIdxByCategoryList = artworkMapper.findArtIdxByCategory(category);
-                    if (artworkIdxList.size() != 0) {
-                        artworkIdxList.retainAll(artworkIdxByCategoryList);//artworkIdxList에서 artworkIdxByCategoryList와 공통 요소만 저장
-                    } else {
-                        artworkIdxList.addAll(artworkIdxByCategoryList);
-                    }
-                }
-                if (!keyword.equals("")) {
-                    String likeKeyword = '%' + keyword + '%';
-                    List<Integer> artworkIdxByKeywordList = artworkMapper.findArtIdxByKeyword(keyword, likeKeyword);
-                    if (artworkIdxList.size() != 0) {
-                        artworkIdxList.retainAll(artworkIdxByKeywordList);//artworkIdxList에서 artworkIdxByKeywordList 공통 요소만 저장
-                    } else {
-                        artworkIdxList.addAll(artworkIdxByKeywordList);
-                    }
-                }
-                if (size.equals("") && form.equals("") && category.equals("") && keyword.equals("")) {
-                    artworkIdxList = artworkMapper.findAllArtIdx();
-                }
-
-                for (int a_idx : artworkIdxList) {
-                    artworkPicList.add(artworkPicMapper.findByArtIdx(a_idx));
-                }
+            final List<Integer> artworkIdxList;
+            final int total;
+            if (keyword.equals("")) {
+                final BitSet artworkIdxSet = artworkFilterIndex.filter(size, form, category, artIdx);
+                artworkIdxList = ArtworkFilterIndex.toDescList(artworkIdxSet, FILTER_PAGE_SIZE);
+                total = artworkIdxSet.cardinality();
             } else {
-                if (!form.equals("")) {
-                    List<Integer> artworkIdxByFormList = artworkMapper.findArtIdxByFormBelowIdx(form, artIdx);
-                    if (artworkIdxList.size() != 0) {
-                        artworkIdxList.retainAll(artworkIdxByFormList); //artworkIdxList에서 artworkIdxByFormList와  공통 요소만 저장 공통 요소만 저장
-                    } else {
-                        artworkIdxList.addAll(artworkIdxByFormList);
-                    }
-                }
-                if (!category.equals("")) {
-                    List<Integer> artworkIdxByCategoryList = artworkMapper.findArtIdxByCategoryBelowIdx(category, artIdx);
-                    if (artworkIdxList.size() != 0) {
-                        artworkIdxList.retainAll(artworkIdxByCategoryList);//artworkIdxList에서 artworkIdxByCategoryList와 공통 요소만 저장
-                    } else {
-                        artworkIdxList.addAll(artworkIdxByCategoryList);
-                    }
-                }
-                if (!keyword.equals("")) {
-                    String likeKeyword = '%' + keyword + '%';
-                    List<Integer> artworkIdxByKeywordList = artworkMapper.findArtIdxByKeywordBelowIdx(keyword, likeKeyword, artIdx);
-                    if (artworkIdxList.size() != 0) {
-                        artworkIdxList.retainAll(artworkIdxByKeywordList);//artworkIdxList에서 artworkIdxByKeywordList 공통 요소만 저장
-                    } else {
-                        artworkIdxList.addAll(artworkIdxByKeywordList);
-                    }
-                }
-                if (size.equals("") && form.equals("") && category.equals("") && keyword.equals("")) {
-                    artworkIdxList = artworkMapper.findAllArtIdxBelow(artIdx);
-                }
-
-                for (int a_idx : artworkIdxList) {
-                    artworkPicList.add(artworkPicMapper.findByArtIdx(a_idx));
-                }
+                artworkIdxList = artworkMapper.findArtIdxByFilter(artworkFilterReq, artIdx, FILTER_PAGE_SIZE);
+                total = artworkMapper.countByFilter(artworkFilterReq, artIdx);
             }
+            List<ArtworkPic> artworkPicList = findArtworkPicList(artworkIdxList);
 
             if (artworkPicList.isEmpty()) {
                 return DefaultRes.res(StatusCode.NO_CONTENT, ResponseMessage.NOT_FOUND_CONTENT, artworkPicList);
             }
-
-            List sublist = new ArrayList();
-            if (artworkPicList.size() > 15) {
-                sublist = artworkPicList.subList(0, 15);
-            } else {
-                sublist = artworkPicList.subList(0, artworkPicList.size());
-            }
-
-            int total = artworkIdxList.size();
-            return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ALL_CONTENTS, sublist, total);
+            return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ALL_CONTENTS, artworkPicList, total);
 
         } catch (Exception e) {
             log.error(e.getMessage());
@@ -591,68 +781,23 @@ public class ArtworkService {
     @Transactional
     public DefaultRes filterArtworkPicIos(final ArtworkFilterReq artworkFilterReq) {
         try {
-            List<ArtworkPic> artworkPicList = new ArrayList<>();
-            List<Integer> artworkIdxList = new ArrayList<>();
-
             String size = artworkFilterReq.getA_size();
             String form = artworkFilterReq.getA_form();
             String category = artworkFilterReq.getA_category();
             String keyword = artworkFilterReq.getA_keyword();
 
             log.info(size + " " + form + " " + category + " " + keyword);
-//            artworkIdxList = artworkMapper.findArtIdxBySize(0, 100000);
-            if (!size.equals("")) {
-                switch (size) {
-                    case "S":
-                        artworkIdxList = artworkMapper.findArtIdxBySize(0, 2411); //사이즈가 S인 a_idx List
-                        break;
-                    case "M":
-                        artworkIdxList = artworkMapper.findArtIdxBySize(2412, 6608); //사이즈가 M인 a_idx List
-                        break;
-                    case "L":
-                        artworkIdxList = artworkMapper.findArtIdxBySize(6609, 10628); //사이즈가 L인 a_idx List
-                        break;
-                    case "XL":
-                        artworkIdxList = artworkMapper.findArtIdxBySize(10629, 21134); //사이즈가 XL인 a_idx List
-                        break;
-                }
-            }
-            if (!form.equals("")) {
-                List<Integer> artworkIdxByFormList = artworkMapper.findArtIdxByForm(form);
-                if (artworkIdxList.size() != 0) {
-                    artworkIdxList.retainAll(artworkIdxByFormList); //artworkIdxList에서 artworkIdxByFormList와  공통 요소만 저장 공통 요소만 저장
-                } else {
-                    artworkIdxList.addAll(artworkIdxByFormList);
-                }
-            }
-            if (!category.equals("")) {
-                List<Integer> artworkIdxByCategoryList = artworkMapper.findArtIdxByCategory(category);
-                if (artworkIdxList.size() != 0) {
-                    artworkIdxList.retainAll(artworkIdxByCategoryList);//artworkIdxList에서 artworkIdxByCategoryList와 공통 요소만 저장
-                } else {
-                    artworkIdxList.addAll(artworkIdxByCategoryList);
-                }
-            }
-            if (!keyword.equals("")) {
-                String likeKeyword = '%' + keyword + '%';
-                List<Integer> artworkIdxByKeywordList = artworkMapper.findArtIdxByKeyword(keyword, likeKeyword);
-                if (artworkIdxList.size() != 0) {
-                    artworkIdxList.retainAll(artworkIdxByKeywordList);//artworkIdxList에서 artworkIdxByKeywordList 공통 요소만 저장
-                } else {
-                    artworkIdxList.addAll(artworkIdxByKeywordList);
-                }
-            }
-            if (size.equals("") && form.equals("") && category.equals("") && keyword.equals("")) {
-                artworkIdxList = artworkMapper.findAllArtIdx();
+            final List<Integer> artworkIdxList;
+            if (keyword.equals("")) {
+                artworkIdxList = ArtworkFilterIndex.toDescList(artworkFilterIndex.filter(size, form, category, -1), Integer.MAX_VALUE);
+            } else {
+                artworkIdxList = artworkMapper.findArtIdxByFilter(artworkFilterReq, -1, 0);
             }
+            List<ArtworkPic> artworkPicList = findArtworkPicList(artworkIdxList);
 
-            for (int a_idx : artworkIdxList) {
-                artworkPicList.add(artworkPicMapper.findByArtIdx(a_idx));
-            }
             if (artworkPicList.isEmpty()) {
                 return DefaultRes.res(StatusCode.NO_CONTENT, ResponseMessage.NOT_FOUND_CONTENT, artworkPicList);
             }
-
             return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ALL_CONTENTS, artworkPicList);
 
         } catch (Exception e) {
@@ -661,5 +806,51 @@ public class ArtworkService {
         }
     }
 
+    /**
+     * 키워드로 작품 검색 (작품명, 설명, 작가 이름, 학교 관련도 순)
+     *
+     * @param keyword 검색어
+     * @param page    페이지 (0 부터)
+     * @return ArtworkPic 리스트, 전체 결과 수
+     */
+    public DefaultRes searchArtworkPic(final String keyword, final int page) {
+        try {
+            if (keyword == null || keyword.trim().equals("") || page < 0) {
+                return DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.NOT_FOUND_CONTENT);
+            }
+            final ArtworkFilterReq searchReq = new ArtworkFilterReq("", "", "", keyword.trim());
+            searchReq.setA_matchForms(artworkFilterIndex.matchForms(searchReq.getA_keyword()));
+            searchReq.setA_matchCategories(artworkFilterIndex.matchCategories(searchReq.getA_keyword()));
+            final int total = artworkMapper.countSearch(searchReq);
+            final List<Integer> artworkIdxList = total == 0 ? new ArrayList<>()
+                    : artworkMapper.searchArtIdx(searchReq, page * FILTER_PAGE_SIZE, FILTER_PAGE_SIZE);
+            List<ArtworkPic> artworkPicList = findArtworkPicList(artworkIdxList);
+
+            if (artworkPicList.isEmpty()) {
+                return DefaultRes.res(StatusCode.NO_CONTENT, ResponseMessage.NOT_FOUND_CONTENT, artworkPicList);
+            }
+            return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ALL_CONTENTS, artworkPicList, total);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return DefaultRes.res(StatusCode.DB_ERROR, ResponseMessage.DB_ERROR);
+        }
+    }
+
+    /**
+     * 작품 인덱스 순서대로 사진 조회 (쿼리 1번)
+     *
+     * @param artIdxList 작품 인덱스 리스트
+     * @return 사진 리스트
+     */
+    private List<ArtworkPic> findArtworkPicList(final List<Integer> artIdxList) {
+        final Map<Integer, ArtworkPic> picMap = artworkPicMapper.findMapByArtIdxList(artIdxList);
+        List<ArtworkPic> artworkPicList = new ArrayList<>();
+        for (int a_idx : artIdxList) {
+            if (picMap.containsKey(a_idx)) {
+                artworkPicList.add(picMap.get(a_idx));
+            }
+        }
+        return artworkPicList;
+    }
 
 }
@@ -0,0 +1,252 @@
+package org.sopt.artoo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.sopt.artoo.model.DefaultRes;
+import org.sopt.artoo.model.UploadSessionRes;
+import org.sopt.artoo.service.storage.ObjectStorage;
+import org.sopt.artoo.service.storage.StoredObject;
+import org.sopt.artoo.utils.ResponseMessage;
+import org.sopt.artoo.utils.StatusCode;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 분할(이어 보내기) 업로드
+ *
+ * 큰 사진을 조각으로 받아서 받는 대로 저장소 분할 업로드(S3 multipart) 조각으로 넘기므로 서버 디스크에 파일이 남지 않는다.
+ * 조각은 동시에 보내도 되고, 연결이 끊기면 받은 조각 목록을 조회해서 빠진 조각만 다시 보내면 된다.
+ * 세션은 메모리에만 두고, 30분 동안 아무 요청이 없으면 저장소 쪽 조각까지 지운다.
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    // 조각 크기 (S3 최소 조각 크기, 마지막 조각만 더 작아도 됨)
+    public static final long PART_SIZE = 5 * 1024 * 1024;
+    // 최대 파일 크기
+    private static final long MAX_SIZE = 100 * 1024 * 1024;
+    // 마지막 요청 후 세션 유지 시간
+    private static final long EXPIRE_MILLIS = 30 * 60 * 1000;
+    // 완료(조각 합치기) 스레드 수
+    private static final int COMPLETE_THREADS = 2;
+
+    private final ObjectStorage objectStorage;
+    private final S3FileUploadService s3FileUploadService;
+    private final ExecutorService completeExecutor =
+            Executors.newFixedThreadPool(COMPLETE_THREADS, S3FileUploadService.threadFactory("upload-complete-"));
+
+    // upload_id -> 세션
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    public ChunkedUploadService(final ObjectStorage objectStorage, final S3FileUploadService s3FileUploadService) {
+        this.objectStorage = objectStorage;
+        this.s3FileUploadService = s3FileUploadService;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        completeExecutor.shutdown();
+    }
+
+    /**
+     * 분할 업로드 시작
+     *
+     * @param u_idx       올리는 유저
+     * @param folder      버킷 안 폴더
+     * @param origName    원래 파일 이름
+     * @param contentType 컨텐츠 타입
+     * @param size        전체 크기
+     * @return DefaultRes - UploadSessionRes
+     */
+    public DefaultRes<UploadSessionRes> create(final int u_idx, final String folder, final String origName,
+                                               final String contentType, final long size) {
+        if (size <= 0 || size > MAX_SIZE) {
+            return DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.FAIL_UPLOAD_PART);
+        }
+        try {
+            final String fileName = s3FileUploadService.newFileName(origName);
+            final String multipartId = objectStorage.startMultipart(folder, fileName, contentType);
+            final UploadSession session = new UploadSession(getUuid(), u_idx, folder, fileName, multipartId, size);
+            sessions.put(session.uploadId, session);
+            return DefaultRes.res(StatusCode.CREATED, ResponseMessage.CREATE_UPLOAD, toRes(session));
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return DefaultRes.res(StatusCode.INTERNAL_SERVER_ERROR, ResponseMessage.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 분할 업로드 조회 (받은 조각 번호)
+     *
+     * @param uploadId 분할 업로드 id
+     * @param u_idx    요청 유저
+     * @return DefaultRes - UploadSessionRes
+     */
+    public DefaultRes<UploadSessionRes> find(final String uploadId, final int u_idx) {
+        final UploadSession session = findSession(uploadId, u_idx);
+        if (session == null) {
+            return DefaultRes.res(StatusCode.NOT_FOUND, ResponseMessage.NOT_FOUND_UPLOAD);
+        }
+        return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_UPLOAD, toRes(session));
+    }
+
+    /**
+     * 조각 업로드 (요청 본문을 그대로 저장소로 넘긴다)
+     *
+     * @param uploadId    분할 업로드 id
+     * @param u_idx       요청 유저
+     * @param partNumber  조각 번호 (1부터)
+     * @param inputStream 요청 본문
+     * @param length      요청 본문 크기 (Content-Length)
+     * @return DefaultRes
+     */
+    public DefaultRes putPart(final String uploadId, final int u_idx, final int partNumber,
+                              final InputStream inputStream, final long length) {
+        final UploadSession session = findSession(uploadId, u_idx);
+        if (session == null) {
+            return DefaultRes.res(StatusCode.NOT_FOUND, ResponseMessage.NOT_FOUND_UPLOAD);
+        }
+        if (partNumber < 1 || partNumber > session.partCount || length != session.partLength(partNumber)) {
+            return DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.FAIL_UPLOAD_PART);
+        }
+        try {
+            final String partTag = objectStorage.putPart(session.folder, session.fileName, session.multipartId,
+                    partNumber, inputStream, length);
+            session.parts.put(partNumber, partTag);
+            session.touch();
+            return DefaultRes.res(StatusCode.OK, ResponseMessage.UPLOAD_PART);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return DefaultRes.res(StatusCode.INTERNAL_SERVER_ERROR, ResponseMessage.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 분할 업로드 완료 (비동기)
+     * 조각이 모두 있어야 하고, 완료하면 세션은 없어진다. 합치기에 실패하면 저장소 조각도 지운다.
+     *
+     * @param uploadId 분할 업로드 id
+     * @param u_idx    요청 유저
+     * @return 저장된 파일 future, 세션이 없거나 조각이 빠졌으면 예외로 끝남
+     */
+    public CompletableFuture<StoredObject> complete(final String uploadId, final int u_idx) {
+        final CompletableFuture<StoredObject> future = new CompletableFuture<>();
+        final UploadSession session = findSession(uploadId, u_idx);
+        if (session == null) {
+            future.completeExceptionally(new IllegalArgumentException(ResponseMessage.NOT_FOUND_UPLOAD));
+            return future;
+        }
+        if (session.parts.size() != session.partCount) {
+            future.completeExceptionally(new IllegalStateException("missing parts: " + session.parts.size() + "/" + session.partCount));
+            return future;
+        }
+        if (!sessions.remove(uploadId, session)) {
+            future.completeExceptionally(new IllegalArgumentException(ResponseMessage.NOT_FOUND_UPLOAD));
+            return future;
+        }
+        completeExecutor.execute(() -> {
+            try {
+                final String url = objectStorage.completeMultipart(session.folder, session.fileName, session.multipartId, session.parts);
+                future.complete(new StoredObject(session.folder, session.fileName, url));
+            } catch (Exception e) {
+                log.error(e.getMessage());
+                objectStorage.abortMultipart(session.folder, session.fileName, session.multipartId);
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 분할 업로드 취소
+     *
+     * @param uploadId 분할 업로드 id
+     * @param u_idx    요청 유저
+     * @return DefaultRes
+     */
+    public DefaultRes abort(final String uploadId, final int u_idx) {
+        final UploadSession session = findSession(uploadId, u_idx);
+        if (session == null || !sessions.remove(uploadId, session)) {
+            return DefaultRes.res(StatusCode.NOT_FOUND, ResponseMessage.NOT_FOUND_UPLOAD);
+        }
+        objectStorage.abortMultipart(session.folder, session.fileName, session.multipartId);
+        return DefaultRes.res(StatusCode.OK, ResponseMessage.DELETE_UPLOAD);
+    }
+
+    /**
+     * 오래된 세션 정리 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60 * 1000)
+    public void expire() {
+        final long now = System.currentTimeMillis();
+        for (UploadSession session : sessions.values()) {
+            if (now - session.touchedAt > EXPIRE_MILLIS && sessions.remove(session.uploadId, session)) {
+                log.info("분할 업로드 만료: " + session.uploadId);
+                objectStorage.abortMultipart(session.folder, session.fileName, session.multipartId);
+            }
+        }
+    }
+
+    private UploadSession findSession(final String uploadId, final int u_idx) {
+        final UploadSession session = sessions.get(uploadId);
+        if (session == null || session.u_idx != u_idx) return null;
+        session.touch();
+        return session;
+    }
+
+    private static UploadSessionRes toRes(final UploadSession session) {
+        UploadSessionRes uploadSessionRes = new UploadSessionRes();
+        uploadSessionRes.setUpload_id(session.uploadId);
+        uploadSessionRes.setPart_size(PART_SIZE);
+        uploadSessionRes.setPart_count(session.partCount);
+        uploadSessionRes.setParts(new ArrayList<>(session.parts.keySet()));
+        return uploadSessionRes;
+    }
+
+    private static String getUuid() {
+        return UUID.randomUUID().toString().replaceAll("-", "");
+    }
+
+    private static class UploadSession {
+        private final String uploadId;
+        private final int u_idx;
+        private final String folder;
+        private final String fileName;
+        private final String multipartId;
+        private final long size;
+        private final int partCount;
+        // 조각 번호 -> 조각 태그 (번호 순)
+        private final ConcurrentSkipListMap<Integer, String> parts = new ConcurrentSkipListMap<>();
+        private volatile long touchedAt = System.currentTimeMillis();
+
+        private UploadSession(final String uploadId, final int u_idx, final String folder, final String fileName,
+                              final String multipartId, final long size) {
+            this.uploadId = uploadId;
+            this.u_idx = u_idx;
+            this.folder = folder;
+            this.fileName = fileName;
+            this.multipartId = multipartId;
+            this.size = size;
+            this.partCount = (int) ((size + PART_SIZE - 1) / PART_SIZE);
+        }
+
+        private long partLength(final int partNumber) {
+            return partNumber < partCount ? PART_SIZE : size - PART_SIZE * (partCount - 1);
+        }
+
+        private void touch() {
+            touchedAt = System.currentTimeMillis();
+        }
+    }
+}
@@ -1,17 +1,19 @@
 package org.sopt.artoo.service;
 
+import com.fasterxml.jackson.databind.util.StdDateFormat;
 import lombok.extern.slf4j.Slf4j;
 import org.sopt.artoo.dto.Comment;
 import org.sopt.artoo.mapper.CommentMapper;
-import org.sopt.artoo.mapper.UserMapper;
 import org.sopt.artoo.model.CommentReq;
 import org.sopt.artoo.model.DefaultRes;
 import org.sopt.artoo.utils.ResponseMessage;
 import org.sopt.artoo.utils.StatusCode;
+import org.sopt.artoo.utils.cache.CommentPageCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -21,28 +23,69 @@ import java.util.stream.Collectors;
 @Service
 public class CommentService {
 
+    // 댓글 페이지 크기
+    private static final int COMMENT_PAGE_SIZE = 20;
+
     private final CommentMapper commentMapper;
-    private final UserMapper userMapper;
+    private final CommentPageCache commentPageCache;
 
-    public CommentService(CommentMapper commentMapper, UserMapper userMapper) {
+    public CommentService(CommentMapper commentMapper, CommentPageCache commentPageCache) {
         this.commentMapper = commentMapper;
-        this.userMapper = userMapper;
+        this.commentPageCache = commentPageCache;
     }
 
+    /**
+     * 작품 댓글 전체 조회 (작성자 이름은 조인으로 같이 조회)
+     *
+     * @param a_idx 작품 인덱스
+     * @param u_idx 조회 유저 인덱스 (-1 이면 비회원)
+     * @return DefaultRes - List<Comment>
+     */
     public DefaultRes<List<Comment>> findAllCommentByArtIdx(final int a_idx, final int u_idx) {
-        List<Comment> commentList = commentMapper.findAllCommentByArtIdx(a_idx);
-        for (Comment comment : commentList) {
-            if(u_idx != -1){ comment.setAuth(u_idx == comment.getU_idx()); }
-            else{ comment.setAuth(false); }
-            comment.setU_name(userMapper.findByUidx(comment.getU_idx()).getU_name());
+        return findCommentList(a_idx, null, -1, -1, u_idx);
+    }
+
+    /**
+     * 작품 댓글 페이지 조회 (20개씩, 최신순)
+     *
+     * 이전 페이지 마지막 댓글이 지워져도 이어지도록 커서(c_date, c_idx)는 클라이언트가 보낸 값을 쓴다.
+     *
+     * @param a_idx  작품 인덱스
+     * @param c_idx  이전 페이지 마지막 댓글 인덱스 (-1 이면 첫 페이지)
+     * @param c_date 이전 페이지 마지막 댓글 c_date (첫 페이지가 아니면 필수)
+     * @param u_idx  조회 유저 인덱스 (-1 이면 비회원)
+     * @return DefaultRes - List<Comment>
+     */
+    public DefaultRes<List<Comment>> findCommentPageByArtIdx(final int a_idx, final int c_idx, final String c_date, final int u_idx) {
+        final Date cursorDate = parseCursorDate(c_idx, c_date);
+        if (c_idx != -1 && cursorDate == null) {
+            return DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.NOT_FOUND_REQUIRE_PARAMS, new ArrayList<>());
         }
+        return findCommentList(a_idx, cursorDate, c_idx, COMMENT_PAGE_SIZE, u_idx);
+    }
+
+    // 페이지 커서 날짜 (첫 페이지거나 없거나 읽을 수 없으면 null)
+    private static Date parseCursorDate(final int c_idx, final String c_date) {
+        if (c_idx == -1 || c_date == null || c_date.isEmpty()) return null;
         try {
-            if(commentList==null){
-                return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ALL_COMMENTS, new ArrayList<Comment>());
+            // 응답의 Jackson 날짜 형식과 epoch 밀리초 둘 다 읽는다
+            return new StdDateFormat().parse(c_date);
+        } catch (ParseException e) {
+            log.error(e.getMessage());
+            return null;
+        }
+    }
+
+    private DefaultRes<List<Comment>> findCommentList(final int a_idx, final Date c_date, final int c_idx,
+                                                      final int limit, final int u_idx) {
+        try {
+            List<Comment> commentList = commentPageCache.find(a_idx, c_date, c_idx, limit);
+            for (Comment comment : commentList) {
+                if(u_idx != -1){ comment.setAuth(u_idx == comment.getU_idx()); }
+                else{ comment.setAuth(false); }
             }
             return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ALL_COMMENTS, commentList);
         } catch (Exception e) {
-            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             log.error(e.getMessage());
             return DefaultRes.res(StatusCode.DB_ERROR, ResponseMessage.DB_ERROR);
         }
@@ -83,6 +126,7 @@ public class CommentService {
                 Date date = new Date();
                 commentReq.setC_date(date);
                 commentMapper.saveComment(commentReq);
+                commentPageCache.evict(commentReq.getA_idx());
                 return DefaultRes.res(StatusCode.CREATED, ResponseMessage.CREATE_COMMENT);
             } catch (Exception e) {
                 log.info(e.getMessage());
@@ -99,7 +143,11 @@ public class CommentService {
             try {
                 Date date = new Date();
                 commentReq.setC_date(date);
+                final Comment comment = commentMapper.findCommentByCommentIdx(commentReq.getC_idx());
                 commentMapper.updateComment(commentReq);
+                if (comment != null) {
+                    commentPageCache.evict(comment.getA_idx());
+                }
                 return DefaultRes.res(StatusCode.OK, ResponseMessage.UPDATE_COMMENT);
             } catch (Exception e) {
                 log.info(e.getMessage());
@@ -113,9 +161,11 @@ public class CommentService {
 
     public DefaultRes deleteComment(final int c_idx, final int userIdx) {
         try {
-            if (commentMapper.findCommentByCommentIdx(c_idx) != null) {
-                if (commentMapper.findCommentByCommentIdx(c_idx).getU_idx() == userIdx) {
+            final Comment comment = commentMapper.findCommentByCommentIdx(c_idx);
+            if (comment != null) {
+                if (comment.getU_idx() == userIdx) {
                     commentMapper.deleteCommentByCommentIdx(c_idx);
+                    commentPageCache.evict(comment.getA_idx());
                     return DefaultRes.res(StatusCode.OK, ResponseMessage.DELETE_COMMENT);
                 } else {
                     return DefaultRes.res(StatusCode.UNAUTHORIZED, ResponseMessage.UNAUTHORIZED);
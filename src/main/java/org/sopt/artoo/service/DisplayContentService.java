@@ -3,11 +3,15 @@ package org.sopt.artoo.service;
 import lombok.extern.slf4j.Slf4j;
 import org.sopt.artoo.dto.Artwork;
 import org.sopt.artoo.dto.Display;
+import org.sopt.artoo.dto.DisplayContent;
 import org.sopt.artoo.dto.User;
 import org.sopt.artoo.mapper.*;
 import org.sopt.artoo.model.*;
 import org.sopt.artoo.utils.ResponseMessage;
 import org.sopt.artoo.utils.StatusCode;
+import org.sopt.artoo.utils.cache.DisplayCalendar;
+import org.sopt.artoo.utils.cache.DisplayGalleryCache;
+import org.sopt.artoo.utils.cache.UserCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
@@ -21,20 +25,24 @@ import java.util.concurrent.ArrayBlockingQueue;
 @Service
 public class DisplayContentService {
     private DisplayContentMapper displayContentMapper;
-    private UserMapper userMapper;
+    private UserCache userCache;
     private ArtworkPicMapper artworkPicMapper;
     private ArtworkMapper artworkMapper;
     private DisplayMapper displayMapper;
+    private DisplayCalendar displayCalendar;
+    private DisplayGalleryCache displayGalleryCache;
 
     private DisplayService displayService;
 
-    public DisplayContentService(DisplayContentMapper displayContentMapper, UserMapper userMapper, ArtworkPicMapper artworkPicMapper, ArtworkMapper artworkMapper, DisplayMapper displayMapper, DisplayService displayService) {
+    public DisplayContentService(DisplayContentMapper displayContentMapper, UserCache userCache, ArtworkPicMapper artworkPicMapper, ArtworkMapper artworkMapper, DisplayMapper displayMapper, DisplayService displayService, DisplayCalendar displayCalendar, DisplayGalleryCache displayGalleryCache) {
         this.displayContentMapper = displayContentMapper;
-        this.userMapper = userMapper;
+        this.userCache = userCache;
         this.artworkPicMapper = artworkPicMapper;
         this.artworkMapper = artworkMapper;
         this.displayMapper = displayMapper;
         this.displayService = displayService;
+        this.displayCalendar = displayCalendar;
+        this.displayGalleryCache = displayGalleryCache;
     }
 
     /**
@@ -44,25 +52,13 @@ public class DisplayContentService {
      * @return DefaultRes - List<DisplayContentRes>
      */
     public DefaultRes<List<DisplayContentRes>> findByDisplayIdx(final int d_idx){
-//         존재하지 않는 전시
-        if(displayMapper.findByDisplayidx(d_idx) == null){ return DefaultRes.res(StatusCode.FORBIDDEN, ResponseMessage.NOT_FOUND_DISPLAY, new ArrayList<>()); }
-
-        // 전시 타이틀
-        String d_title = displayMapper.findByDisplayidx(d_idx).getD_title();
-        log.info(d_title);
-        List<DisplayContentRes> dcList = displayContentMapper.findArtworksByDisplayIdx(d_idx);
+        List<DisplayContentRes> dcList = displayGalleryCache.find(d_idx);
+        // 존재하지 않는 전시
+        if(dcList == null){ return DefaultRes.res(StatusCode.FORBIDDEN, ResponseMessage.NOT_FOUND_DISPLAY, new ArrayList<>()); }
 
         //전시회에 신청한 작품이 없을 경우
         if(dcList.isEmpty()){ return DefaultRes.res(StatusCode.NO_CONTENT, ResponseMessage.NOT_FOUND_DISPLAYCONTENT, new ArrayList<>()); }
 
-        for(DisplayContentRes displayContent : dcList) {
-            displayContent.setU_name(userMapper.findByUidx(displayContent.getU_idx()).getU_name());
-            //작품 사진 없는 경우
-            if(artworkPicMapper.findByArtIdx(displayContent.getA_idx()) != null)
-                displayContent.setPic_url(artworkPicMapper.findByArtIdx(displayContent.getA_idx()).getPic_url());
-            displayContent.setD_idx(d_idx);
-            displayContent.setD_title(d_title);
-        }
         return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_DISPLAY, dcList);
     }
 
@@ -86,18 +82,8 @@ public class DisplayContentService {
                 displayApplyRes.setArtworks(artworks);
             }
 
-            List<Display> Alldisplays = displayMapper.findAllDisplay();
-            List<Display> nowDisplay = new ArrayList<Display>();
-
-            if(!Alldisplays.isEmpty()) {
-                // 현재 신청 중인 전시만 저장
-                for (Display display : Alldisplays) {
-                    if (DateRes.isContain(display.getD_sDateApply(), display.getD_eDateApply())) {
-                        nowDisplay.add(display);
-                    }
-                }
-            }
-            displayApplyRes.setDisplays(nowDisplay);
+            // 현재 신청 중인 전시만 저장
+            displayApplyRes.setDisplays(displayCalendar.findApplying());
             return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_DISPLAY_APPLICATION, displayApplyRes);
         }catch(Exception e){
             log.info(e.getMessage());
@@ -119,7 +105,7 @@ public class DisplayContentService {
             if(displayContentMapper.findByUidxAndDidx(displayReq.getU_idx(), displayReq.getD_idx()) == null){
                 try{
                     displayReq.setDc_date(DateRes.getDate());
-                    User u = userMapper.findByUidx(displayReq.getU_idx());
+                    User u = userCache.findByUidx(displayReq.getU_idx());
 
                     if(artworkMapper.findByIdxAndUidx(displayReq.getA_idx(), displayReq.getU_idx())==null)
                         return DefaultRes.res(StatusCode.FORBIDDEN, ResponseMessage.NOT_FOUND_ARTWORK, new ArrayList<>());
@@ -130,6 +116,7 @@ public class DisplayContentService {
                     Display d = displayMapper.findByDisplayidx(displayReq.getD_idx());
 
                     displayContentMapper.save(displayReq);
+                    displayGalleryCache.evict(displayReq.getD_idx());
 
                     try{
                         DisplayApplyConfirmRes displayApplyConfirmRes = new DisplayApplyConfirmRes();
@@ -171,9 +158,11 @@ public class DisplayContentService {
      */
     @Transactional
     public DefaultRes deleteDisplaycontent(final int displayContent_idx) {
-        if( displayContentMapper.findByDisplayContentIdx(displayContent_idx) != null){
+        final DisplayContent displayContent = displayContentMapper.findByDisplayContentIdx(displayContent_idx);
+        if(displayContent != null){
             try{
                 displayContentMapper.deleteByDcIdx(displayContent_idx);
+                displayGalleryCache.evict(displayContent.getD_idx());
                 return DefaultRes.res(StatusCode.OK, ResponseMessage.DELETE_DISPLAY, displayContent_idx);
             }catch(Exception e){
                 log.info(e.getMessage());
@@ -4,20 +4,26 @@ import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.sopt.artoo.dto.Artwork;
 import org.sopt.artoo.dto.Display;
+import org.sopt.artoo.dto.DisplayArtist;
 import org.sopt.artoo.dto.DisplayContent;
 import org.sopt.artoo.mapper.DisplayContentMapper;
 import org.sopt.artoo.mapper.DisplayMapper;
-import org.sopt.artoo.mapper.UserMapper;
 import org.sopt.artoo.model.*;
 import org.sopt.artoo.utils.ResponseMessage;
 import org.sopt.artoo.utils.StatusCode;
+import org.sopt.artoo.utils.cache.DisplayCalendar;
+import org.sopt.artoo.utils.cache.DisplayGalleryCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 @Slf4j
@@ -25,41 +31,44 @@ import java.util.List;
 public class DisplayService {
     private DisplayMapper displayMapper;
     private DisplayContentMapper displayContentMapper;
-    private UserMapper userMapper;
     private final S3FileUploadService s3FileUploadService;
+    private final DisplayCalendar displayCalendar;
+    private final DisplayGalleryCache displayGalleryCache;
 
 
-    public DisplayService(DisplayMapper displayMapper, DisplayContentMapper displayContentMapper, UserMapper userMapper, S3FileUploadService s3FileUploadService) {
+    public DisplayService(DisplayMapper displayMapper, DisplayContentMapper displayContentMapper,
+                          S3FileUploadService s3FileUploadService, DisplayCalendar displayCalendar,
+                          DisplayGalleryCache displayGalleryCache) {
         this.displayMapper = displayMapper;
         this.displayContentMapper = displayContentMapper;
-        this.userMapper = userMapper;
         this.s3FileUploadService = s3FileUploadService;
+        this.displayCalendar = displayCalendar;
+        this.displayGalleryCache = displayGalleryCache;
 
     }
 
     /**
      * 전시 메인 - 모든 전시 조회
+     * 전시 목록은 전시 달력에서, 참여 작가 이름은 쿼리 1번으로 가져온다
      *
      * @return DefaultRes<List<Display>>
      */
 
     public DefaultRes<List<Display>> findDisplays(){
-        List<Display> displayList = displayMapper.findAllDisplay();
-        List<Display> nowDisplayList = new ArrayList<>();
+        List<Display> nowDisplayList = displayCalendar.findNow();
+        if(nowDisplayList.isEmpty())
+            return DefaultRes.res(StatusCode.NO_CONTENT, ResponseMessage.FAIL_READ_DISPLAY, new ArrayList<>());
 
-        //v2
-        for(Display display : displayList){
-            if(DateRes.isContain(display.getD_sDateNow(), display.getD_eDateNow())) {nowDisplayList.add(display);}
-        }
+        // 참여 작가 이름은 전시 전체를 한 번에 조회
+        final Map<Integer, List<String>> artistMap = new HashMap<>();
         for(Display nowDisplay: nowDisplayList){
-            List<String> userList = new ArrayList<>();
-            for(DisplayContent displayContent : displayContentMapper.findByDisplay(nowDisplay.getD_idx())){
-                userList.add(userMapper.findByUidx(displayContent.getU_idx()).getU_name());
-            }
+            final List<String> userList = new ArrayList<>();
+            artistMap.put(nowDisplay.getD_idx(), userList);
             nowDisplay.setD_artworkUser(userList);
         }
-        if(nowDisplayList.isEmpty())
-            return DefaultRes.res(StatusCode.NO_CONTENT, ResponseMessage.FAIL_READ_DISPLAY, new ArrayList<>());
+        for(DisplayArtist displayArtist : displayContentMapper.findArtistNamesByDisplayIdxList(new ArrayList<>(artistMap.keySet()))){
+            artistMap.get(displayArtist.getD_idx()).add(displayArtist.getU_name());
+        }
         return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ALL_DISPLAY, nowDisplayList);
     }
 
@@ -80,33 +89,51 @@ public class DisplayService {
 
     /**
      * 전시장 추가
+     * 메인/타이틀/대표 이미지를 동시에 올리고, 셋 다 성공해야 전시를 저장한다.
+     * 하나라도 실패하거나 저장에 실패하면 올라간 이미지는 지운다.
+     *
      * @param displayAddReq
-     * @return DefaultRes
+     * @return DefaultRes future
      */
-    public DefaultRes addDisplay(final DisplayAddReq displayAddReq){
-        if(displayAddReq.checkProperties()){
-            try {
-                if(displayAddReq.getM_d_mainImg_url() != null){
-                    displayAddReq.setD_mainImg_url(s3FileUploadService.upload(displayAddReq.getM_d_mainImg_url(),"display"));
-                }
-
-                if(displayAddReq.getM_d_titleImg_url() != null ){
-                    displayAddReq.setD_titleImg_url(s3FileUploadService.upload(displayAddReq.getM_d_titleImg_url(),"display"));
-                }
-                displayAddReq.setD_repImg_url(s3FileUploadService.upload(displayAddReq.getM_d_repImg_url(), "display"));
-                displayMapper.addDisplay(displayAddReq);
+    public CompletableFuture<DefaultRes> addDisplay(final DisplayAddReq displayAddReq){
+        if(!displayAddReq.checkProperties()){
+            return CompletableFuture.completedFuture(DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.NOT_FOUND_REQUIRE_PARAMS));
+        }
+        final CompletableFuture<String> mainImg = uploadIfPresent(displayAddReq.getM_d_mainImg_url());
+        final CompletableFuture<String> titleImg = uploadIfPresent(displayAddReq.getM_d_titleImg_url());
+        final CompletableFuture<String> repImg = s3FileUploadService.uploadAsync(displayAddReq.getM_d_repImg_url(), "display");
+
+        // allOf 는 실패가 있어도 셋이 모두 끝난 뒤에 완료된다
+        return CompletableFuture.allOf(mainImg, titleImg, repImg)
+                .thenApply(done -> {
+                    displayAddReq.setD_mainImg_url(mainImg.join());
+                    displayAddReq.setD_titleImg_url(titleImg.join());
+                    displayAddReq.setD_repImg_url(repImg.join());
+                    displayMapper.addDisplay(displayAddReq);
+                    displayCalendar.invalidate();
+                    return DefaultRes.res(StatusCode.OK, ResponseMessage.INSERT_DISPLAYS);
+                })
+                .exceptionally(e -> {
+                    log.error(e.getMessage());
+                    deleteUploaded(mainImg, titleImg, repImg);
+                    return DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.FAIL_CREATE_CONTENT);
+                });
+    }
 
-            } catch (IOException e) {
-                e.printStackTrace();
-                return DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.FAIL_CREATE_CONTENT);
+    @SafeVarargs
+    private final void deleteUploaded(final CompletableFuture<String>... uploads) {
+        for (CompletableFuture<String> upload : uploads) {
+            if (!upload.isCompletedExceptionally()) {
+                s3FileUploadService.deleteAsync(upload.join());
             }
-            return DefaultRes.res(StatusCode.OK, ResponseMessage.INSERT_DISPLAYS);
-        }
-        else {
-            return DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.NOT_FOUND_REQUIRE_PARAMS);
         }
     }
 
+    private CompletableFuture<String> uploadIfPresent(final MultipartFile image) {
+        if (image == null) return CompletableFuture.completedFuture(null);
+        return s3FileUploadService.uploadAsync(image, "display");
+    }
+
     /**
      * 전시장 수정
      * @param displayAddReq
@@ -128,6 +155,8 @@ public class DisplayService {
                 }
 
                 displayMapper.updateDisplay(displayAddReq);
+                displayCalendar.invalidate();
+                displayGalleryCache.evict(displayAddReq.getD_idx());
 
             } catch (IOException e) {
                 e.printStackTrace();
@@ -151,6 +180,8 @@ public class DisplayService {
         try {
             displayContentMapper.deleteByDIsplayIdx(d_idx);
             displayMapper.deleteByDisplayIdx(d_idx);
+            displayCalendar.invalidate();
+            displayGalleryCache.evict(d_idx);
         } catch (Exception e) {
             e.printStackTrace();
             return DefaultRes.res(StatusCode.DB_ERROR, ResponseMessage.DB_ERROR);
@@ -0,0 +1,248 @@
+package org.sopt.artoo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.sopt.artoo.dto.ArtworkPic;
+import org.sopt.artoo.service.storage.ObjectStorage;
+import org.sopt.artoo.service.storage.StoredObject;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작품 사진 업로드 + 축소본(썸네일, 중간 크기) 생성
+ *
+ * 원본은 내용 해시를 이름으로 올리고, 축소본은 원본 옆에 "{해시}_w{가로}.jpg" 로 저장한다.
+ * 수정할 때 같은 사진을 다시 올리면 원본과 축소본 모두 업로드와 축소를 건너뛴다.
+ * 원본 업로드와 축소본 생성은 같이 시작한다. 분할 업로드로 받은 사진은 저장소에서 다시 읽어서 축소본을 만든다.
+ * 축소본 작업은 크기가 정해진 풀에서만 돌고, 풀이 꽉 찼거나 읽을 수 없는 이미지면 축소본 없이 원본만 저장한다.
+ */
+@Slf4j
+@Service
+public class ImageRenditionService {
+
+    // 목록 타일용 썸네일 가로
+    public static final int THUMB_WIDTH = 400;
+    // 상세 미리보기용 가로
+    public static final int MEDIUM_WIDTH = 1080;
+
+    private static final float JPEG_QUALITY = 0.82f;
+    private static final String JPEG_CONTENT_TYPE = "image/jpeg";
+
+    // 디코딩한 이미지가 메모리를 많이 쓰므로 동시에 몇 개만 처리한다
+    private static final int WORKER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    private static final int QUEUE_SIZE = 16;
+
+    private final S3FileUploadService s3FileUploadService;
+    private final ObjectStorage objectStorage;
+    private final ThreadPoolExecutor workerPool;
+
+    public ImageRenditionService(final S3FileUploadService s3FileUploadService, final ObjectStorage objectStorage) {
+        this.s3FileUploadService = s3FileUploadService;
+        this.objectStorage = objectStorage;
+        final AtomicInteger count = new AtomicInteger();
+        this.workerPool = new ThreadPoolExecutor(WORKER_THREADS, WORKER_THREADS, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_SIZE), runnable -> {
+            final Thread thread = new Thread(runnable, "image-rendition-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdown();
+    }
+
+    /**
+     * 원본과 축소본 업로드 (비동기)
+     *
+     * @param uploadFile 업로드 파일
+     * @param folder     버킷 안 폴더
+     * @return 사진 주소들 (a_idx 는 비어 있음, 축소본이 없으면 해당 주소는 null), 원본 업로드가 실패하면 예외로 끝남
+     */
+    public CompletableFuture<ArtworkPic> uploadWithRenditions(final MultipartFile uploadFile, final String folder) {
+        return s3FileUploadService.contentHashAsync(uploadFile).thenCompose(hash -> {
+            final String fileName = s3FileUploadService.contentFileName(hash, uploadFile.getOriginalFilename());
+            final String thumbName = hash + "_w" + THUMB_WIDTH + ".jpg";
+            final String mediumName = hash + "_w" + MEDIUM_WIDTH + ".jpg";
+
+            final CompletableFuture<String> original = s3FileUploadService.uploadOnceAsync(folder, fileName,
+                    () -> s3FileUploadService.uploadAsync(uploadFile, folder, fileName));
+            final CompletableFuture<ArtworkPic> renditions = uploadRenditions(uploadFile, folder, thumbName, mediumName);
+
+            return original.thenCombine(renditions, (picUrl, artworkPic) -> {
+                artworkPic.setPic_url(picUrl);
+                return artworkPic;
+            });
+        });
+    }
+
+    /**
+     * 이미 저장된 사진(분할 업로드)의 축소본 업로드 (비동기)
+     *
+     * @param stored 저장된 원본
+     * @return 사진 주소들 (축소본이 없으면 해당 주소는 null)
+     */
+    public CompletableFuture<ArtworkPic> withRenditions(final StoredObject stored) {
+        final String fileName = stored.getFileName();
+        final String baseName = fileName.contains(".") ? fileName.substring(0, fileName.lastIndexOf('.')) : fileName;
+        final InputStreamSource source = () -> objectStorage.open(stored.getFolder(), fileName);
+        return uploadRenditions(source, stored.getFolder(), baseName + "_w" + THUMB_WIDTH + ".jpg",
+                baseName + "_w" + MEDIUM_WIDTH + ".jpg")
+                .thenApply(artworkPic -> {
+                    artworkPic.setPic_url(stored.getUrl());
+                    return artworkPic;
+                });
+    }
+
+    private CompletableFuture<ArtworkPic> uploadRenditions(final InputStreamSource source, final String folder,
+                                                           final String thumbName, final String mediumName) {
+        final String uploadedThumb = s3FileUploadService.findUploaded(folder, thumbName);
+        final String uploadedMedium = s3FileUploadService.findUploaded(folder, mediumName);
+        if (uploadedThumb != null && uploadedMedium != null) {
+            // 같은 사진의 축소본이 이미 있음
+            ArtworkPic artworkPic = new ArtworkPic();
+            artworkPic.setPic_thumb_url(uploadedThumb);
+            artworkPic.setPic_medium_url(uploadedMedium);
+            return CompletableFuture.completedFuture(artworkPic);
+        }
+        final CompletableFuture<Encoded> encoded;
+        try {
+            encoded = CompletableFuture.supplyAsync(() -> encode(source), workerPool);
+        } catch (Exception e) {
+            // 풀이 꽉 참
+            log.error("축소본 생략: " + e.getMessage());
+            return CompletableFuture.completedFuture(new ArtworkPic());
+        }
+        return encoded.thenCompose(result -> {
+            if (result == null) return CompletableFuture.completedFuture(new ArtworkPic());
+            final CompletableFuture<String> thumb = s3FileUploadService.uploadOnceAsync(folder, thumbName,
+                    () -> s3FileUploadService.uploadAsync(result.thumb, JPEG_CONTENT_TYPE, folder, thumbName));
+            final CompletableFuture<String> medium = s3FileUploadService.uploadOnceAsync(folder, mediumName,
+                    () -> s3FileUploadService.uploadAsync(result.medium, JPEG_CONTENT_TYPE, folder, mediumName));
+            return thumb.thenCombine(medium, (thumbUrl, mediumUrl) -> {
+                ArtworkPic artworkPic = new ArtworkPic();
+                artworkPic.setPic_thumb_url(thumbUrl);
+                artworkPic.setPic_medium_url(mediumUrl);
+                return artworkPic;
+            });
+        }).exceptionally(e -> {
+            log.error("축소본 생략: " + e.getMessage());
+            return new ArtworkPic();
+        });
+    }
+
+    /**
+     * 축소본 JPEG 만들기
+     *
+     * @return 축소본, 이미지로 읽을 수 없으면 null
+     */
+    private static Encoded encode(final InputStreamSource source) {
+        try {
+            final BufferedImage image = decode(source, MEDIUM_WIDTH);
+            if (image == null) return null;
+            final BufferedImage medium = resize(image, MEDIUM_WIDTH);
+            final BufferedImage thumb = resize(medium, THUMB_WIDTH);
+            return new Encoded(encodeJpeg(thumb), encodeJpeg(medium));
+        } catch (IOException e) {
+            log.error(e.getMessage());
+            return null;
+        }
+    }
+
+    private static BufferedImage decode(final InputStreamSource source, final int maxWidth) throws IOException {
+        try (InputStream inputStream = source.getInputStream();
+             ImageInputStream input = ImageIO.createImageInputStream(inputStream)) {
+            if (input == null) return null;
+            final Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) return null;
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                final ImageReadParam param = reader.getDefaultReadParam();
+                // 필요한 크기의 2배가 넘으면 읽을 때부터 건너뛰며 읽어서 메모리를 아낀다
+                final int subsampling = Math.max(1, reader.getWidth(0) / (maxWidth * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 가로 width 로 비율 유지 축소 (작으면 크기 유지), 반씩 줄여가며 계단 현상을 줄인다
+    private static BufferedImage resize(final BufferedImage source, final int width) {
+        final int targetWidth = Math.min(width, source.getWidth());
+        BufferedImage current = source;
+        do {
+            final int nextWidth = Math.max(targetWidth, current.getWidth() / 2);
+            final int nextHeight = Math.max(1, (int) Math.round((double) current.getHeight() * nextWidth / current.getWidth()));
+            current = draw(current, nextWidth, nextHeight);
+        } while (current.getWidth() > targetWidth);
+        return current;
+    }
+
+    private static BufferedImage draw(final BufferedImage source, final int width, final int height) {
+        final BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = target.createGraphics();
+        try {
+            // 투명 배경은 흰색으로
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encodeJpeg(final BufferedImage image) throws IOException {
+        final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        final ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static class Encoded {
+        private final byte[] thumb;
+        private final byte[] medium;
+
+        private Encoded(final byte[] thumb, final byte[] medium) {
+            this.thumb = thumb;
+            this.medium = medium;
+        }
+    }
+}
@@ -13,8 +13,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static com.auth0.jwt.JWT.require;
 
@@ -28,6 +35,27 @@ public class JwtService {
     @Value("${JWT.SECRET}")
     private String SECRET;
 
+    // 검증 통과한 토큰 최대 보관 수
+    private static final int VERIFIED_CACHE_SIZE = 4096;
+
+    // Algorithm, JWTVerifier 는 thread-safe 하므로 한 번만 만든다
+    private Algorithm algorithm;
+    private JWTVerifier jwtVerifier;
+
+    // 토큰 SHA-256 -> 검증 결과 (접근 순서 LRU, synchronized 로 보호)
+    private final Map<String, VerifiedToken> verifiedTokens = new LinkedHashMap<String, VerifiedToken>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, VerifiedToken> eldest) {
+            return size() > VERIFIED_CACHE_SIZE;
+        }
+    };
+
+    @PostConstruct
+    public void init() {
+        algorithm = Algorithm.HMAC256(SECRET);
+        jwtVerifier = require(algorithm).withIssuer(ISSUER).build();
+    }
+
     /**
      * 토큰 생성
      *
@@ -45,7 +73,7 @@ public class JwtService {
 
             b.withExpiresAt(expiresAt());
             //토큰 해싱해서 반환
-            return b.sign(Algorithm.HMAC256(SECRET));
+            return b.sign(algorithm);
         } catch (JWTCreationException JwtCreationException) {
             log.info(JwtCreationException.getMessage());
         }
@@ -61,18 +89,28 @@ public class JwtService {
     }
     /**
      * 토큰 해독
+     * 한 번 검증된 토큰은 만료 시간까지 다시 검증하지 않는다.
      *
      * @param token 토큰
      * @return 로그인한 사용자의 회원 고유 IDX
      */
     public Token decode(final String token) {
         try {
-            //토큰 해독 객체 생성
-            final JWTVerifier jwtVerifier = require(Algorithm.HMAC256(SECRET)).withIssuer(ISSUER).build();
+            final String tokenHash = hash(token);
+            final VerifiedToken verified = findVerified(tokenHash);
+            if (verified != null) {
+                return new Token(verified.user_idx);
+            }
             //토큰 검증
             DecodedJWT decodedJWT = jwtVerifier.verify(token);
             //토큰 payload 반환, 정상적인 토큰이라면 토큰 주인(사용자) 고유 ID, 아니라면 -1
-            return new Token(decodedJWT.getClaim("user_idx").asLong().intValue());
+            final int user_idx = decodedJWT.getClaim("user_idx").asLong().intValue();
+            if (decodedJWT.getExpiresAt() != null) {
+                synchronized (verifiedTokens) {
+                    verifiedTokens.put(tokenHash, new VerifiedToken(user_idx, decodedJWT.getExpiresAt().getTime()));
+                }
+            }
+            return new Token(user_idx);
         } catch (JWTVerificationException jve) {
             log.error(jve.getMessage());
         } catch (Exception e) {
@@ -81,6 +119,33 @@ public class JwtService {
         return new Token();
     }
 
+    private VerifiedToken findVerified(final String tokenHash) {
+        synchronized (verifiedTokens) {
+            final VerifiedToken verified = verifiedTokens.get(tokenHash);
+            if (verified == null) return null;
+            if (verified.expiresAt <= System.currentTimeMillis()) {
+                verifiedTokens.remove(tokenHash);
+                return null;
+            }
+            return verified;
+        }
+    }
+
+    private static String hash(final String token) throws NoSuchAlgorithmException {
+        final byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    private static class VerifiedToken {
+        private final int user_idx;
+        private final long expiresAt;
+
+        private VerifiedToken(final int user_idx, final long expiresAt) {
+            this.user_idx = user_idx;
+            this.expiresAt = expiresAt;
+        }
+    }
+
     public static class Token {
         //토큰에 담길 정보 필드
         //초기값을 -1로 설정함으로써 로그인 실패시 -1반환
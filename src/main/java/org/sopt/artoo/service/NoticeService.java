@@ -7,6 +7,8 @@ import org.sopt.artoo.model.*;
 import org.sopt.artoo.utils.ResponseMessage;
 import org.sopt.artoo.utils.StatusCode;
 import org.sopt.artoo.utils.constants.NoticeConstant;
+import org.sopt.artoo.utils.cache.DisplayCalendar;
+import org.sopt.artoo.utils.cache.UserCache;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
@@ -25,18 +27,20 @@ import static org.sopt.artoo.model.DefaultRes.FAIL_DEFAULT_RES;
 public class NoticeService {
     private PurchaseMapper purchaseMapper;
     private ArtworkMapper artworkMapper;
-    private UserMapper userMapper;
+    private UserCache userCache;
     private DisplayContentMapper displayContentMapper;
     private DisplayMapper displayMapper;
     private ArtworkPicMapper artworkPicMapper;
+    private DisplayCalendar displayCalendar;
 
-    public NoticeService(PurchaseMapper purchaseMapper, ArtworkMapper artworkMapper, UserMapper userMapper, DisplayContentMapper displayContentMapper, DisplayMapper displayMapper, ArtworkPicMapper artworkPicMapper) {
+    public NoticeService(PurchaseMapper purchaseMapper, ArtworkMapper artworkMapper, UserCache userCache, DisplayContentMapper displayContentMapper, DisplayMapper displayMapper, ArtworkPicMapper artworkPicMapper, DisplayCalendar displayCalendar) {
         this.purchaseMapper = purchaseMapper;
         this.artworkMapper = artworkMapper;
-        this.userMapper = userMapper;
+        this.userCache = userCache;
         this.displayContentMapper = displayContentMapper;
         this.displayMapper = displayMapper;
         this.artworkPicMapper = artworkPicMapper;
+        this.displayCalendar = displayCalendar;
     }
 
     /**
@@ -49,19 +53,18 @@ public class NoticeService {
         try{
             List<NoticeRes> noticeResList  = new ArrayList<NoticeRes>();
             // 사용자가 구매자인 구매 목록 가져옴
-            List<Purchase> purchaseList  = purchaseMapper.findByBuyerIdx(u_idx); //u_idx == 구매자
+            List<PurchaseNotice> purchaseList  = purchaseMapper.findBuyNoticeByBuyerIdx(u_idx); //u_idx == 구매자
+            // 판매자 정보 (관리자)
+            User adminUser = userCache.findByUidx(NoticeConstant.ADMIN_USER_IDX);
 
-            for(Purchase purchase : purchaseList) {
+            for(PurchaseNotice purchase : purchaseList) {
 
                 NoticeRes noticeRes = new NoticeRes(purchase);
                 noticeRes.setP_date(DateRes.getDate1(purchase.getP_date()));
-                // 판매자 정보 저장
-                User adminUser = userMapper.findByUidx(0);
 
                 // 작품 정보 저장
-                Artwork artwork = artworkMapper.findByIdx(purchase.getA_idx());
-                noticeRes.setA_name(artwork.getA_name());
-                noticeRes.setA_u_name(userMapper.findByUidx(artwork.getU_idx()).getU_name());
+                noticeRes.setA_name(purchase.getA_name());
+                noticeRes.setA_u_name(purchase.getA_u_name());
 
                 noticeRes.setU_name(adminUser.getU_name());
                 noticeRes.setU_phone(adminUser.getU_phone());
@@ -79,7 +82,7 @@ public class NoticeService {
                     // 택배 결제전
                     else if (p_state.startsWith("2")) { noticeRes.setP_isDelivery(1); }
 
-                    noticeRes.setA_pic_url(artworkPicMapper.findByArtIdx(artwork.getA_idx()).getPic_url());
+                    noticeRes.setA_pic_url(purchase.getA_pic_url());
                     noticeRes.setP_isPay(0); // 결제전
                     log.info(noticeRes.getA_idx() + ": 결제전");
                     noticeResList.add(noticeRes);
@@ -92,7 +95,7 @@ public class NoticeService {
                         noticeRes.setP_isDelivery(1);
                         log.info(noticeRes.getA_idx() + "택배");
                     }
-                    noticeRes.setA_pic_url(artworkPicMapper.findByArtIdx(artwork.getA_idx()).getPic_url());
+                    noticeRes.setA_pic_url(purchase.getA_pic_url());
 //                    Purchase purchase1 = purchaseMapper.findPurchaseByPurchaseIdx(purchase.getP_idx());
                     if(purchase.getP_comment().equals("") || purchase.getP_comment() == null ){
                         noticeRes.setC_isComment(false);
@@ -123,19 +126,18 @@ public class NoticeService {
         try{
             List<NoticeRes> noticeResList  = new ArrayList<NoticeRes>();
             // 사용자가 판매자인 구매 목록 가져옴
-            List<Purchase> purchaseList  = purchaseMapper.findBySellerIdx(u_idx); //u_idx == 판매자
+            List<PurchaseNotice> purchaseList  = purchaseMapper.findSellNoticeBySellerIdx(u_idx); //u_idx == 판매자
 
-            User adminUser = userMapper.findByUidx(0);
+            User adminUser = userCache.findByUidx(NoticeConstant.ADMIN_USER_IDX);
 
-            for(Purchase purchase : purchaseList) {
+            for(PurchaseNotice purchase : purchaseList) {
                 NoticeRes noticeRes = new NoticeRes(purchase);
                 noticeRes.setP_date(DateRes.getDate1(purchase.getP_date()));
 
                 // 작품 정보 저장
-                Artwork artwork = artworkMapper.findByIdx(purchase.getA_idx());
-                noticeRes.setA_name(artwork.getA_name());
-                noticeRes.setA_u_name(userMapper.findByUidx(u_idx).getU_name()); // 작가 == user
-                noticeRes.setA_pic_url(artworkPicMapper.findByArtIdx(artwork.getA_idx()).getPic_url());
+                noticeRes.setA_name(purchase.getA_name());
+                noticeRes.setA_u_name(purchase.getA_u_name()); // 작가 == user
+                noticeRes.setA_pic_url(purchase.getA_pic_url());
 
                 noticeRes.setU_name(adminUser.getU_name());
                 noticeRes.setU_phone(adminUser.getU_phone());
@@ -241,14 +243,11 @@ public class NoticeService {
      */
     public DefaultRes findNoticeDisplayApply(final int u_idx) {
         try {
-            List<Display> displayList = displayMapper.findAllDisplay();
             List<DisplayContent> displayContents_apply = new ArrayList<>(); // 신청 중인 전시
 
-            for(Display display : displayList){
-                // 신청 중인 전시회 (신청 완료)
-                if(DateRes.isContain(display.getD_sDateApply(), display.getD_eDateApply())){
-                    displayContents_apply.add(displayContentMapper.findByUidxAndDidx(u_idx, display.getD_idx()));
-                }
+            // 신청 중인 전시회 (신청 완료)
+            for(Display display : displayCalendar.findApplying()){
+                displayContents_apply.add(displayContentMapper.findByUidxAndDidx(u_idx, display.getD_idx()));
             }
             // 신청 중인 전시 반환 리스트 생성
             List<DisplayRes> displayResList = new ArrayList<>();
@@ -256,7 +255,7 @@ public class NoticeService {
                 for (DisplayContent displayContent : displayContents_apply) {
                     if(displayContent != null) {
                         DisplayRes displayRes = new DisplayRes();
-                        User user = userMapper.findByUidx(displayContent.getU_idx());
+                        User user = userCache.findByUidx(displayContent.getU_idx());
                         Artwork artwork = artworkMapper.findByIdx(displayContent.getA_idx());
                         Display display = displayMapper.findByDisplayidx(displayContent.getD_idx());
 
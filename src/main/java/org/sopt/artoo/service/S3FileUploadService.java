@@ -1,90 +1,298 @@
 package org.sopt.artoo.service;
 
-import com.amazonaws.AmazonClientException;
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.PutObjectRequest;
-import com.amazonaws.services.s3.transfer.TransferManager;
-import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
-import com.amazonaws.services.s3.transfer.Upload;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.sopt.artoo.service.storage.ObjectStorage;
+import org.sopt.artoo.utils.cache.UploadHashIndex;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+/**
+ * 파일 업로드
+ *
+ * 실제 저장은 ObjectStorage 구현(S3, 로컬 디스크)이 하고, 여기서는 파일 이름, 해시 색인, 완료 스레드를 맡는다.
+ * 멀티파트 스트림을 임시 파일 없이 바로 넘기고, 업로드는 기다리지 않고 CompletableFuture 로 끝을 알려준다.
+ * 내용 해시를 파일 이름으로 쓰는 업로드(uploadOnceAsync)는 같은 내용이면 저장을 건너뛴다.
+ */
 @Slf4j
 @Service
 public class S3FileUploadService {
 
-    // 버킷 이름 동적 할당
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    // 업로드 완료 후 이어지는 작업(DB 저장 등) 스레드 수
+    private static final int COMPLETION_THREADS = 4;
 
-    // 버킷 주소 동적 할당
-    @Value("${cloud.aws.s3.bucket.url}")
-    private String defaultUrl;
+    private final ObjectStorage objectStorage;
+    private final ExecutorService completionExecutor;
+    private final UploadHashIndex uploadHashIndex;
 
-    private final AmazonS3Client amazonS3Client;
+    // 올리는 중인 해시 파일 (같은 내용이 동시에 들어오면 한 번만 올린다)
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
 
-    public S3FileUploadService(final AmazonS3Client amazonS3Client) {
-        this.amazonS3Client = amazonS3Client;
+    public S3FileUploadService(final ObjectStorage objectStorage, final UploadHashIndex uploadHashIndex) {
+        this.objectStorage = objectStorage;
+        this.uploadHashIndex = uploadHashIndex;
+        this.completionExecutor = Executors.newFixedThreadPool(COMPLETION_THREADS, threadFactory("upload-done-"));
     }
 
+    @PreDestroy
+    public void shutdown() {
+        completionExecutor.shutdown();
+    }
+
+    /**
+     * 파일 업로드 (업로드가 끝날 때까지 기다림)
+     *
+     * @param uploadFile 업로드 파일
+     * @param folder     버킷 안 폴더
+     * @return 파일 주소, 실패하면 null
+     */
     public String upload(MultipartFile uploadFile, String folder) throws IOException {
-        String origName = uploadFile.getOriginalFilename();
-        log.info("origName: " + origName);
-        String url;
         try {
-            //확장자
-            final String ext = origName.substring(origName.lastIndexOf('.'));
-            //파일이름 암호화
-            final String saveFileName = getUuid() + ext;
-            //파일 객체 생성
-            File file = new File(System.getProperty("user.dir") + saveFileName);
-            //파일 변환
-            uploadFile.transferTo(file);
-            //S3 파일 업로드
-            uploadOnS3(saveFileName, file, folder);
-            //주소 할당
-            url = defaultUrl + folder + "/"+ saveFileName;
-            //파일 삭제
-            file.delete();
-        }catch (Exception e) {
-            e.printStackTrace();
-            log.info(e.getMessage());
+            return uploadAsync(uploadFile, folder).join();
+        } catch (CompletionException e) {
+            log.error(e.getMessage());
             //파일이 없을 경우 예외 처리
             log.info("url이 null이 되어버림");
-            url = null;
+            return null;
         }
-        return url;
     }
 
-    private static String getUuid() {
-        return UUID.randomUUID().toString().replaceAll("-", "");
+    /**
+     * 파일 업로드 (비동기)
+     * 이어지는 작업은 저장소 스레드가 아닌 완료 스레드에서 실행된다.
+     *
+     * @param uploadFile 업로드 파일
+     * @param folder     버킷 안 폴더
+     * @return 파일 주소 future, 실패하면 예외로 끝남
+     */
+    public CompletableFuture<String> uploadAsync(final MultipartFile uploadFile, final String folder) {
+        log.info("origName: " + uploadFile.getOriginalFilename());
+        return uploadAsync(uploadFile, folder, newFileName(uploadFile.getOriginalFilename()));
+    }
+
+    /**
+     * 파일 이름을 정해서 업로드 (비동기)
+     *
+     * @param uploadFile 업로드 파일
+     * @param folder     버킷 안 폴더
+     * @param fileName   저장할 파일 이름 (newFileName 으로 만든 이름)
+     * @return 파일 주소 future
+     */
+    public CompletableFuture<String> uploadAsync(final MultipartFile uploadFile, final String folder, final String fileName) {
+        try {
+            return putAsync(folder, fileName, uploadFile.getInputStream(), uploadFile.getSize(), uploadFile.getContentType());
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            final CompletableFuture<String> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
     }
 
-    //S3에 파일을 업로드한다.
-    private void uploadOnS3(final String fileName, final File file, String folder) {
-        //AWS S3 전송 객체 생성
-        final TransferManager transferManager = new TransferManager(this.amazonS3Client);
-        // 버킷 url 설정
-        String bucketUrl = bucket + "/"+folder;
-        log.info(bucketUrl);
-        //요청 객체 생성
-        final PutObjectRequest request = new PutObjectRequest(bucketUrl, fileName, file);
-        //업로드 시도
-        final Upload upload = transferManager.upload(request);
+    /**
+     * 메모리에 있는 데이터 업로드 (비동기, 썸네일 등)
+     *
+     * @param bytes       파일 내용
+     * @param contentType 컨텐츠 타입
+     * @param folder      버킷 안 폴더
+     * @param fileName    저장할 파일 이름
+     * @return 파일 주소 future
+     */
+    public CompletableFuture<String> uploadAsync(final byte[] bytes, final String contentType,
+                                                 final String folder, final String fileName) {
+        return putAsync(folder, fileName, new ByteArrayInputStream(bytes), bytes.length, contentType);
+    }
+
+    /**
+     * 내용 해시 계산 (비동기, SHA-256)
+     *
+     * @param uploadFile 업로드 파일
+     * @return 16진수 해시 future
+     */
+    public CompletableFuture<String> contentHashAsync(final MultipartFile uploadFile) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (InputStream inputStream = uploadFile.getInputStream()) {
+                final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                final byte[] buffer = new byte[8192];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+                return toHex(digest.digest());
+            } catch (IOException | NoSuchAlgorithmException e) {
+                throw new CompletionException(e);
+            }
+        }, completionExecutor);
+    }
+
+    /**
+     * 내용 해시로 정한 파일 이름
+     *
+     * @param hash     내용 해시
+     * @param origName 원래 파일 이름 (확장자만 씀)
+     * @return 파일 이름
+     */
+    public String contentFileName(final String hash, final String origName) {
+        return hash + extension(origName);
+    }
 
+    /**
+     * 이미 올린 해시 파일 주소 조회
+     *
+     * @param folder   버킷 안 폴더
+     * @param fileName 해시 파일 이름
+     * @return 파일 주소 (없으면 null)
+     */
+    public String findUploaded(final String folder, final String fileName) {
+        return uploadHashIndex.find(folder, fileName);
+    }
+
+    /**
+     * 해시 파일 이름으로 한 번만 업로드 (비동기)
+     * 색인에 있으면 PUT 없이 주소를 돌려주고, 같은 파일을 올리는 중이면 그 업로드를 같이 기다린다.
+     *
+     * @param folder   버킷 안 폴더
+     * @param fileName 해시 파일 이름 (contentFileName 으로 만든 이름)
+     * @param upload   실제 업로드 (색인에 없을 때만 호출)
+     * @return 파일 주소 future
+     */
+    public CompletableFuture<String> uploadOnceAsync(final String folder, final String fileName,
+                                                     final Supplier<CompletableFuture<String>> upload) {
+        final String uploaded = uploadHashIndex.find(folder, fileName);
+        if (uploaded != null) {
+            return CompletableFuture.completedFuture(uploaded);
+        }
+        final String key = folder + "/" + fileName;
+        final CompletableFuture<String> started = new CompletableFuture<>();
+        final CompletableFuture<String> running = inFlight.putIfAbsent(key, started);
+        if (running != null) {
+            return running;
+        }
+        final CompletableFuture<String> uploading;
         try {
-            //완료 확인
-            upload.waitForCompletion();
-        } catch (AmazonClientException amazonClientException) {
-            log.error(amazonClientException.getMessage());
-        } catch (InterruptedException e) {
+            uploading = upload.get();
+        } catch (RuntimeException e) {
+            // 업로드를 시작하지도 못함 (스트림 열기 실패, 풀 거절 등), 기다리는 쪽이 영원히 걸리지 않도록 바로 끝낸다
             log.error(e.getMessage());
+            inFlight.remove(key);
+            started.completeExceptionally(e);
+            return started;
         }
+        uploading.whenComplete((url, e) -> {
+            if (e == null) {
+                uploadHashIndex.put(folder, fileName, url);
+            }
+            inFlight.remove(key);
+            if (e == null) {
+                started.complete(url);
+            } else {
+                started.completeExceptionally(e);
+            }
+        });
+        return started;
+    }
+
+    /**
+     * 업로드한 파일 삭제 (비동기, 실패하면 로그만 남김)
+     * 여러 파일 중 일부만 올라갔을 때 정리용. 해시 이름 파일은 다른 요청이 같이 쓰고 있을 수 있으므로
+     * 여기로 지우지 않고 sweepIdle 로 정리한다.
+     *
+     * @param url 업로드로 받은 파일 주소 (null 이면 무시)
+     */
+    public void deleteAsync(final String url) {
+        if (url == null) return;
+        completionExecutor.execute(() -> objectStorage.delete(url));
+    }
+
+    /**
+     * 오래 쓰이지 않은 해시 이름 파일 중 아무도 참조하지 않는 파일 삭제
+     * idleMillis 동안 색인에서 주소를 내준 적이 없어야 하므로, 아직 커밋 전인 요청이 쓰는 파일은 남는다.
+     *
+     * @param idleMillis 마지막 사용 후 지나야 하는 시간 (업로드 요청 제한 시간보다 길게)
+     * @param inUse      주소를 DB 가 참조하는지
+     * @return 지운 파일 수
+     */
+    public int sweepIdle(final long idleMillis, final Predicate<String> inUse) {
+        final long usedBefore = System.currentTimeMillis() - idleMillis;
+        int deleted = 0;
+        for (String url : uploadHashIndex.findIdle(usedBefore)) {
+            try {
+                if (!inUse.test(url) && uploadHashIndex.removeIfIdle(url, usedBefore, objectStorage::delete)) {
+                    deleted++;
+                }
+            } catch (Exception e) {
+                log.error(e.getMessage());
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 저장할 파일 이름 (uuid + 원래 확장자)
+     *
+     * @param origName 원래 파일 이름
+     * @return 파일 이름
+     */
+    public String newFileName(final String origName) {
+        //파일이름 암호화
+        return getUuid() + extension(origName);
+    }
+
+    private static String extension(final String origName) {
+        if (origName == null || origName.lastIndexOf('.') < 0) return "";
+        return origName.substring(origName.lastIndexOf('.'));
+    }
+
+    private static String toHex(final byte[] bytes) {
+        final StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private static String getUuid() {
+        return UUID.randomUUID().toString().replaceAll("-", "");
+    }
+
+    // 저장소에 넘기고, 끝나면 완료 스레드에서 future 를 완료한다. (저장소 스레드에서 DB 작업이 돌지 않도록)
+    private CompletableFuture<String> putAsync(final String folder, final String fileName, final InputStream inputStream,
+                                               final long length, final String contentType) {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        objectStorage.putAsync(folder, fileName, inputStream, length, contentType).whenCompleteAsync((url, e) -> {
+            if (e == null) {
+                future.complete(url);
+            } else {
+                future.completeExceptionally(e);
+            }
+        }, completionExecutor);
+        return future;
+    }
+
+    // 이름 붙은 데몬 스레드 (같은 패키지의 다른 업로드 풀도 같이 쓴다)
+    static ThreadFactory threadFactory(final String prefix) {
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 }
@@ -7,6 +7,8 @@ import org.sopt.artoo.model.*;
 import org.sopt.artoo.utils.PasswordIncoder;
 import org.sopt.artoo.utils.ResponseMessage;
 import org.sopt.artoo.utils.StatusCode;
+import org.sopt.artoo.utils.cache.DisplayCalendar;
+import org.sopt.artoo.utils.cache.UserCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
@@ -22,25 +24,23 @@ import sun.rmi.runtime.Log;
 public class UserService {
 
     private final UserMapper userMapper;
+    private final UserCache userCache;
+
     private final ArtworkMapper artworkMapper;
     private final PurchaseMapper purchaseMapper;
-    private final ArtworkLikeMapper artworkLikeMapper;
-    private final DisplayMapper displayMapper;
-    private final DisplayContentMapper displayContentMapper;
+    private final DisplayCalendar displayCalendar;
     private final ArtworkPicMapper artworkPicMapper;
 
 
 
 
     public UserService(final UserMapper userMapper, final ArtworkMapper artworkMapper, final PurchaseMapper purchaseMapper,
-                       final ArtworkLikeMapper artworkLikeMapper, final DisplayMapper displayMapper,
-                       final DisplayContentMapper displayContentMapper, final ArtworkPicMapper artworkPicMapper) {
+                       final DisplayCalendar displayCalendar, final ArtworkPicMapper artworkPicMapper, final UserCache userCache) {
         this.userMapper = userMapper;
+        this.userCache = userCache;
         this.artworkMapper = artworkMapper;
         this.purchaseMapper = purchaseMapper;
-        this.artworkLikeMapper = artworkLikeMapper;
-        this.displayMapper = displayMapper;
-        this.displayContentMapper = displayContentMapper;
+        this.displayCalendar = displayCalendar;
         this.artworkPicMapper = artworkPicMapper;
     }
 
@@ -51,7 +51,7 @@ public class UserService {
      * @return DefaultRes - User 객체
      */
     public DefaultRes findUser(final int userIdx) {
-        final User user = userMapper.findByUidx(userIdx);
+        final User user = userCache.findByUidx(userIdx);
         if (user != null) {
             try {
                 return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_USER, user);
@@ -114,11 +114,10 @@ public class UserService {
      */
     @Transactional
     public MyPageRes findUserWork(final int userIdx) {
-        if(userMapper.findByUidx(userIdx) != null) {
-            String u_name = userMapper.findByUidx(userIdx).getU_name();
+        if(userCache.findByUidx(userIdx) != null) {
+            String u_name = userCache.findByUidx(userIdx).getU_name();
             String userDes = findUserDescription(userIdx);
-            List<Artwork> listArt = artworkMapper.findArtworkByUserIdx(userIdx);
-            List<MyArtwork> myArtworks  = findMyArtWorklist(userIdx, listArt);
+            List<MyArtwork> myArtworks = artworkMapper.findMyArtworkByUserIdx(userIdx, findNowDisplayIdxList());
             if (!myArtworks.isEmpty()) {
                 return MyPageRes.res(StatusCode.OK, ResponseMessage.READ_ALL_CONTENTS, u_name, userDes, myArtworks, myArtworks.size());
             }
@@ -127,53 +126,17 @@ public class UserService {
         return  MyPageRes.res(StatusCode.NOT_FOUND, ResponseMessage.NOT_FOUND_USER);
     }
 
-    public List<MyArtwork> findMyArtWorklist(final int userIdx, List<Artwork> listArt){ //주어진 Artwork List -> 작품 번호, 사진 번호, 전시 상태 찾기
-        List<Display> listDisplay = displayMapper.findAllDisplay();
-        List<Display> curDisplay = new LinkedList<>();
-        List<Integer> curDisplayContentAidx = new LinkedList<>();
-
-        try {
-            //전시 중인 display 찾기
-            for (Display d : listDisplay) {
-                if (DateRes.isContain(d.getD_sDateNow(), d.getD_eDateNow())) {
-                    curDisplay.add(d);
-                }
-            }
-            //전시 중인 display_content 작품 고유 번호 찾기
-            for (Display d : curDisplay) {
-                for (DisplayContent dc : displayContentMapper.findByDisplay(d.getD_idx())) {
-                    if (dc.getU_idx() == userIdx) {
-                        curDisplayContentAidx.add(dc.getA_idx());
-                    }
-                }
-            }
-            //display_content와 user의 작품 비교 -> 전시중인 작품 Mapping
-            for (Integer i : curDisplayContentAidx) {
-                for (Artwork a : listArt) {
-                    if (a.getA_idx() == i) {
-                        a.setA_isDisplay(true);
-                    }
-                }
-            }
-            //Artwork를 MyArtwork로 변환
-            List<MyArtwork> listMyArtwork = new LinkedList<>();
-            for (Artwork a : listArt) {
-                MyArtwork myArtwork = new MyArtwork();
-                myArtwork.setA_idx(a.getA_idx());
-                myArtwork.setA_isDisplay(a.isA_isDisplay());
-                if (artworkPicMapper.findByArtIdx(a.getA_idx()) != null) {
-                    myArtwork.setA_url(artworkPicMapper.findByArtIdx(a.getA_idx()).getPic_url());
-                } else {
-                    myArtwork.setA_url(null);
-                }
-                listMyArtwork.add(myArtwork);
-            }
-            return listMyArtwork;
-        } catch (Exception e) {
-            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
-            log.error(e.getMessage());
-            return null;
+    /**
+     * 지금 전시 중인 전시 인덱스 (작품 타일 전시 여부 표시용)
+     *
+     * @return 전시 인덱스 리스트
+     */
+    private List<Integer> findNowDisplayIdxList() {
+        List<Integer> displayIdxList = new ArrayList<>();
+        for (Display display : displayCalendar.findNow()) {
+            displayIdxList.add(display.getD_idx());
         }
+        return displayIdxList;
     }
 
     public boolean findByUserIdAndType(final int userId, final int signupType) {
@@ -202,19 +165,11 @@ public class UserService {
      */
     @Transactional
     public MyPageRes findUserLikes(final int userIdx) {
-        if (userMapper.findByUidx(userIdx) != null) {
-            List<ArtworkLike> listUserLike = artworkLikeMapper.findArtworkLikeByUserIdx(userIdx); //유저 ArtworkLike 객체 호출
-            List<Artwork> listArtworks = new LinkedList<>();
-            String u_name = userMapper.findByUidx(userIdx).getU_name();
+        if (userCache.findByUidx(userIdx) != null) {
+            String u_name = userCache.findByUidx(userIdx).getU_name();
             String userDes = findUserDescription(userIdx);
-            for(ArtworkLike a : listUserLike){  // ArtworkLike -> artwork List로 변환
-                Artwork artwork = artworkMapper.findByIdx(a.getA_idx());
-                if(artwork != null) { // 비활성화 artwork 제외
-                    listArtworks.add(artwork);
-                }
-            }
             try {
-                List<MyArtwork> myArtworks = findMyArtWorklist(userIdx, listArtworks); //userIdx와 artworkList로 Mypage에 해당하는 형식으로 변환
+                List<MyArtwork> myArtworks = artworkMapper.findLikedArtworkByUserIdx(userIdx, findNowDisplayIdxList()); // 좋아요 누른 작품을 Mypage에 해당하는 형식으로 조회
                 if(!myArtworks.isEmpty()) {
                     return MyPageRes.res(StatusCode.CREATED, ResponseMessage.READ_USER_LIKES, u_name, userDes, myArtworks, myArtworks.size());
                 }
@@ -236,11 +191,11 @@ public class UserService {
      */
     @Transactional
     public MyPageRes findUserPurchase(final int userIdx) {
-        if (userMapper.findByUidx(userIdx) == null) { // 회원 존재 유무
+        if (userCache.findByUidx(userIdx) == null) { // 회원 존재 유무
             return MyPageRes.res(StatusCode.NOT_FOUND, ResponseMessage.NOT_FOUND_USER);
         } else {
             String userDes = findUserDescription(userIdx);
-            String u_name = userMapper.findByUidx(userIdx).getU_name();
+            String u_name = userCache.findByUidx(userIdx).getU_name();
             try{
                 List<Purchase> listPurchase = purchaseMapper.findTransactionByUserIdx(userIdx); //유저 고유 번호에서 거래 목록 불러오기
                 ArrayList<UserPurchase> listTransaction = new ArrayList<>();
@@ -258,9 +213,9 @@ public class UserService {
                         userPurchase.setA_name(artworkMapper.findAllArtworkByIdx(purchase.getA_idx()).getA_name()); //조회 할때 비활성한 상품도 조회해야한다!
                         userPurchase.setBuyer(purchase.isP_isBuyer());
                         if (purchase.isP_isBuyer()) { //구매자일 경우 -> 판매자 이름 업데이트
-                            userPurchase.setU_name(userMapper.findByUidx(purchase.getP_seller_idx()).getU_name());
+                            userPurchase.setU_name(userCache.findByUidx(purchase.getP_seller_idx()).getU_name());
                         } else { //판매자인 경우 -> 구매자 이름 업데이트
-                            userPurchase.setU_name(userMapper.findByUidx(purchase.getP_buyer_idx()).getU_name());
+                            userPurchase.setU_name(userCache.findByUidx(purchase.getP_buyer_idx()).getU_name());
                         }
                         userPurchase.setA_price(artworkMapper.findAllArtworkByIdx(purchase.getA_idx()).getA_price());
                         userPurchase.setP_state(purchase.getP_state());
@@ -289,18 +244,18 @@ public class UserService {
      * @return DefaultRes - List<Purchase>
      */
     public MyPageRes findUserTransReview(final int userIdx) {
-        if(userMapper.findByUidx(userIdx) != null) {
+        if(userCache.findByUidx(userIdx) != null) {
             List<Purchase> listTransaction = purchaseMapper.findTransactionByUserIdx(userIdx);
             List<UserReview> listFinishedTrans = new LinkedList<>();
             String userDes = findUserDescription(userIdx);
-            String u_name = userMapper.findByUidx(userIdx).getU_name();
+            String u_name = userCache.findByUidx(userIdx).getU_name();
             try {
                 for (Purchase p : listTransaction) {
                     if (p.getP_comment() != null && (p.getP_seller_idx() == userIdx)) {
                         UserReview userReview = new UserReview();
                         userReview.setP_idx(p.getP_idx());
                         userReview.setA_name(artworkMapper.findAllArtworkByIdx(p.getA_idx()).getA_name());
-                        userReview.setU_name(userMapper.findByUidx(p.getP_buyer_idx()).getU_name());
+                        userReview.setU_name(userCache.findByUidx(p.getP_buyer_idx()).getU_name());
                         userReview.setP_comment(p.getP_comment());
                         SimpleDateFormat sdf = new SimpleDateFormat("yyyy.MM.dd");
                         userReview.setP_date(sdf.format(p.getP_date()));
@@ -324,7 +279,7 @@ public class UserService {
     }
 
     public String findUserDescription(final int userIdx) {
-        final String userDescription = userMapper.findByUidx(userIdx).getU_description();
+        final String userDescription = userCache.findByUidx(userIdx).getU_description();
         return userDescription;
     }
 
@@ -339,6 +294,7 @@ public class UserService {
     public DefaultRes<String> updateUserDescription(final int userIdx, final UserDescriptionReq userDescriptionReq) {
         try {
             userMapper.saveUserDescription(userIdx, userDescriptionReq);
+            userCache.evict(userIdx);
             return DefaultRes.res(StatusCode.OK, ResponseMessage.UPDATE_USER);
         } catch (Exception e) {
             TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
@@ -354,9 +310,9 @@ public class UserService {
      */
     @Transactional
     public DefaultRes changeUserInfo(final int userIdx, final UserSignUpReq userInfo) {
-        if (userMapper.findByUidx(userIdx) != null) {
+        if (userCache.findByUidx(userIdx) != null) {
             try {
-                User myUser = userMapper.findByUidx(userIdx);
+                User myUser = userCache.findByUidx(userIdx);
                 if(userInfo.getU_name() != null) {
                     myUser.setU_name(userInfo.getU_name());
                 }
@@ -368,6 +324,7 @@ public class UserService {
                     myUser.setU_school(userInfo.getU_school());
                 }
                 userMapper.updateUserInfo(userIdx, myUser);
+                userCache.evict(userIdx);
                 return DefaultRes.res(StatusCode.OK, ResponseMessage.UPDATE_USER);
             } catch (Exception e) {
                 TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
@@ -386,7 +343,7 @@ public class UserService {
      */
     @Transactional
     public DefaultRes userPwChange(final int userIdx, final UserPwInfo userPwInfo) {
-        if (userMapper.findByUidx(userIdx) != null) {
+        if (userCache.findByUidx(userIdx) != null) {
             try {
 
                 if(!userMapper.checkUserPw(userIdx).equalsIgnoreCase(PasswordIncoder.incodePw(userPwInfo.getU_pw_current()))){
@@ -398,6 +355,7 @@ public class UserService {
                 }
                 userPwInfo.setU_pw_new(PasswordIncoder.incodePw(userPwInfo.getU_pw_new()));
                 userMapper.updateUserPw(userIdx, userPwInfo);
+                userCache.evict(userIdx);
                 return DefaultRes.res(StatusCode.BAD_REQUEST, ResponseMessage.UPDATE_USER);
             } catch (Exception e) {
                 TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
@@ -440,13 +398,14 @@ public class UserService {
      */
     @Transactional
     public DefaultRes deleteUser(final int userIdx, final LoginReq userPw){
-        User user = userMapper.findByUidx(userIdx);
+        User user = userCache.findByUidx(userIdx);
         if(user != null) {
             try{
                 //compare data and password
                 String incodedPw = PasswordIncoder.incodePw(userPw.getU_pw());
                 if(incodedPw.equalsIgnoreCase(userMapper.checkUserPw(userIdx))){
                     userMapper.inActiveUser(userIdx);
+                    userCache.evict(userIdx);
                     return DefaultRes.res(StatusCode.OK, ResponseMessage.DELETE_USER);
                 }
                 return DefaultRes.res(StatusCode.NO_CONTENT, ResponseMessage.WRONG_PASSWORD);
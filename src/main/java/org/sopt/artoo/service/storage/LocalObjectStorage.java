@@ -0,0 +1,214 @@
+package org.sopt.artoo.service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.SortedMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 디스크 저장소 (storage.type=local)
+ *
+ * AWS 없이 부하 테스트나 오프라인 환경에서 쓰는 저장소. FileChannel.transferFrom 으로 복사하고
+ * (업로드 파일이 디스크에 있으면 커널 안에서 바로 복사), 파일은 FileController 가 sendfile 로 내려준다.
+ * 쓰는 중인 파일은 .part 로 두었다가 다 쓰면 이름을 바꿔서, 반쯤 쓴 파일이 보이지 않는다.
+ * 분할 업로드 조각은 {root}/.multipart/{id}/ 에 두었다가 완료할 때 transferTo 로 이어 붙인다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+
+    // 디스크 쓰기 스레드 수
+    private static final int WRITE_THREADS = 4;
+    // 분할 업로드 조각 폴더
+    private static final String MULTIPART_DIR = ".multipart";
+
+    private final Path root;
+    private final String baseUrl;
+    private final ExecutorService writeExecutor;
+
+    public LocalObjectStorage(@Value("${storage.local.root:${java.io.tmpdir}/artoo-storage}") final String root,
+                              @Value("${storage.local.url:/files/}") final String baseUrl) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl;
+        final AtomicInteger count = new AtomicInteger();
+        this.writeExecutor = Executors.newFixedThreadPool(WRITE_THREADS, runnable -> {
+            final Thread thread = new Thread(runnable, "local-storage-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("local storage: " + this.root);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeExecutor.shutdown();
+    }
+
+    @Override
+    public CompletableFuture<String> putAsync(final String folder, final String fileName, final InputStream inputStream,
+                                              final long length, final String contentType) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (ReadableByteChannel source = channel(inputStream)) {
+                write(resolve(folder, fileName), source, length);
+                return baseUrl + folder + "/" + fileName;
+            } catch (IOException e) {
+                log.error("로컬 저장 실패: " + folder + "/" + fileName + " " + e.getMessage());
+                throw new UncheckedIOException(e);
+            }
+        }, writeExecutor);
+    }
+
+    @Override
+    public void delete(final String url) {
+        if (url == null || !url.startsWith(baseUrl)) return;
+        final String key = url.substring(baseUrl.length());
+        final int slash = key.indexOf('/');
+        if (slash < 0) return;
+        try {
+            Files.deleteIfExists(resolve(key.substring(0, slash), key.substring(slash + 1)));
+        } catch (IOException e) {
+            log.error("로컬 삭제 실패: " + key + " " + e.getMessage());
+        }
+    }
+
+    @Override
+    public InputStream open(final String folder, final String fileName) throws IOException {
+        return Files.newInputStream(resolve(folder, fileName));
+    }
+
+    @Override
+    public String startMultipart(final String folder, final String fileName, final String contentType) throws IOException {
+        final String multipartId = UUID.randomUUID().toString().replaceAll("-", "");
+        Files.createDirectories(multipartDir(multipartId));
+        return multipartId;
+    }
+
+    @Override
+    public String putPart(final String folder, final String fileName, final String multipartId, final int partNumber,
+                          final InputStream inputStream, final long length) throws IOException {
+        // 요청 스트림은 닫지 않는다
+        write(multipartDir(multipartId).resolve(String.valueOf(partNumber)), Channels.newChannel(inputStream), length);
+        return String.valueOf(length);
+    }
+
+    @Override
+    public String completeMultipart(final String folder, final String fileName, final String multipartId,
+                                    final SortedMap<Integer, String> partTags) throws IOException {
+        final Path dir = multipartDir(multipartId);
+        final Path target = resolve(folder, fileName);
+        Files.createDirectories(target.getParent());
+        final Path part = target.resolveSibling(target.getFileName() + ".part");
+        try (FileChannel out = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int partNumber : partTags.keySet()) {
+                try (FileChannel in = FileChannel.open(dir.resolve(String.valueOf(partNumber)), StandardOpenOption.READ)) {
+                    final long size = in.size();
+                    long position = 0;
+                    while (position < size) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
+        Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        abortMultipart(folder, fileName, multipartId);
+        return baseUrl + folder + "/" + fileName;
+    }
+
+    @Override
+    public void abortMultipart(final String folder, final String fileName, final String multipartId) {
+        try {
+            final Path dir = multipartDir(multipartId);
+            if (!Files.isDirectory(dir)) return;
+            try (DirectoryStream<Path> parts = Files.newDirectoryStream(dir)) {
+                for (Path part : parts) {
+                    Files.deleteIfExists(part);
+                }
+            }
+            Files.deleteIfExists(dir);
+        } catch (IOException e) {
+            log.error("로컬 분할 업로드 정리 실패: " + multipartId + " " + e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 파일 찾기
+     *
+     * @param folder   폴더
+     * @param fileName 파일 이름
+     * @return 파일 경로 (없거나 저장소 밖이면 null)
+     */
+    public Path find(final String folder, final String fileName) {
+        try {
+            final Path path = resolve(folder, fileName);
+            return Files.isRegularFile(path) ? path : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private Path resolve(final String folder, final String fileName) throws IOException {
+        final Path path = root.resolve(folder).resolve(fileName).normalize();
+        // ../ 로 저장소 밖을 가리키지 못하게
+        if (!path.startsWith(root) || path.getParent().equals(root)) {
+            throw new IOException("invalid path: " + folder + "/" + fileName);
+        }
+        return path;
+    }
+
+    private Path multipartDir(final String multipartId) throws IOException {
+        if (!multipartId.matches("[0-9a-f]{32}")) {
+            throw new IOException("invalid multipart id: " + multipartId);
+        }
+        return root.resolve(MULTIPART_DIR).resolve(multipartId);
+    }
+
+    // 업로드 파일이 디스크에 있으면 파일 채널끼리 복사
+    private static ReadableByteChannel channel(final InputStream in) {
+        return in instanceof FileInputStream ? ((FileInputStream) in).getChannel() : Channels.newChannel(in);
+    }
+
+    private static void write(final Path target, final ReadableByteChannel source, final long length) throws IOException {
+        Files.createDirectories(target.getParent());
+        final Path part = target.resolveSibling(target.getFileName() + ".part");
+        try (FileChannel out = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            while (position < length) {
+                final long transferred = out.transferFrom(source, position, length - position);
+                if (transferred <= 0) break;
+                position += transferred;
+            }
+            if (position != length) {
+                throw new IOException("expected " + length + " bytes but got " + position);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
+        Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,82 @@
+package org.sopt.artoo.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 파일 저장소
+ *
+ * storage.type 으로 구현을 고른다. (s3: S3, 기본값 / local: 로컬 디스크)
+ * 저장 위치는 "폴더/파일 이름" 이고, 저장하면 클라이언트가 바로 받을 수 있는 주소를 돌려준다.
+ * 큰 파일은 분할 업로드(startMultipart → putPart → completeMultipart)로 조각을 받는 대로 넘길 수 있다.
+ */
+public interface ObjectStorage {
+
+    /**
+     * 파일 저장 (비동기)
+     * 입력 스트림은 저장이 끝나면(실패해도) 저장소가 닫는다.
+     *
+     * @param folder      폴더
+     * @param fileName    파일 이름
+     * @param inputStream 파일 내용
+     * @param length      파일 크기
+     * @param contentType 컨텐츠 타입 (모르면 null)
+     * @return 파일 주소 future
+     */
+    CompletableFuture<String> putAsync(String folder, String fileName, InputStream inputStream,
+                                       long length, String contentType);
+
+    /**
+     * 파일 삭제
+     *
+     * @param url putAsync 로 받은 주소 (이 저장소 주소가 아니면 무시)
+     */
+    void delete(String url);
+
+    /**
+     * 저장된 파일 읽기
+     *
+     * @param folder   폴더
+     * @param fileName 파일 이름
+     * @return 파일 내용 (호출한 쪽이 닫는다)
+     */
+    InputStream open(String folder, String fileName) throws IOException;
+
+    /**
+     * 분할 업로드 시작
+     *
+     * @param folder      폴더
+     * @param fileName    파일 이름
+     * @param contentType 컨텐츠 타입 (모르면 null)
+     * @return 저장소 분할 업로드 id
+     */
+    String startMultipart(String folder, String fileName, String contentType) throws IOException;
+
+    /**
+     * 조각 저장 (받는 스트림을 그대로 넘긴다, 같은 번호를 다시 보내면 덮어씀)
+     *
+     * @param multipartId startMultipart 로 받은 id
+     * @param partNumber  조각 번호 (1부터)
+     * @param inputStream 조각 내용 (닫지 않음)
+     * @param length      조각 크기
+     * @return 조각 태그 (완료할 때 넘김)
+     */
+    String putPart(String folder, String fileName, String multipartId, int partNumber,
+                   InputStream inputStream, long length) throws IOException;
+
+    /**
+     * 분할 업로드 완료 (조각을 번호 순서대로 이어 붙임)
+     *
+     * @param partTags 조각 번호 -> 조각 태그 (빠진 번호 없이)
+     * @return 파일 주소
+     */
+    String completeMultipart(String folder, String fileName, String multipartId,
+                             SortedMap<Integer, String> partTags) throws IOException;
+
+    /**
+     * 분할 업로드 취소 (받은 조각 삭제, 실패하면 로그만 남김)
+     */
+    void abortMultipart(String folder, String fileName, String multipartId);
+}
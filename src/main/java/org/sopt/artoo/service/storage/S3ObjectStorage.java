@@ -0,0 +1,178 @@
+package org.sopt.artoo.service.storage;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.event.ProgressEvent;
+import com.amazonaws.event.ProgressEventType;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * S3 저장소 (기본값)
+ *
+ * TransferManager 와 전송 스레드 풀은 하나만 만들어 같이 쓰고, 스트림을 임시 파일 없이 바로 올린다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+
+    // S3 전송 스레드 수
+    private static final int TRANSFER_THREADS = 8;
+
+    // 버킷 이름 동적 할당
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    // 버킷 주소 동적 할당
+    @Value("${cloud.aws.s3.bucket.url}")
+    private String defaultUrl;
+
+    private final AmazonS3Client amazonS3Client;
+    private final TransferManager transferManager;
+
+    public S3ObjectStorage(final AmazonS3Client amazonS3Client) {
+        this.amazonS3Client = amazonS3Client;
+        final AtomicInteger count = new AtomicInteger();
+        this.transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(TRANSFER_THREADS, runnable -> {
+                    final Thread thread = new Thread(runnable, "s3-transfer-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // S3 클라이언트는 스프링 빈이므로 전송 스레드만 정리
+        transferManager.shutdownNow(false);
+    }
+
+    @Override
+    public CompletableFuture<String> putAsync(final String folder, final String fileName, final InputStream inputStream,
+                                              final long length, final String contentType) {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        // 버킷 url 설정
+        final String bucketUrl = bucket + "/" + folder;
+        final String url = defaultUrl + folder + "/" + fileName;
+        final ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(length);
+        metadata.setContentType(contentType);
+        //요청 객체 생성
+        final PutObjectRequest request = new PutObjectRequest(bucketUrl, fileName, inputStream, metadata);
+        request.setGeneralProgressListener((ProgressEvent progressEvent) -> {
+            final ProgressEventType eventType = progressEvent.getEventType();
+            if (eventType == ProgressEventType.TRANSFER_COMPLETED_EVENT) {
+                closeQuietly(inputStream);
+                future.complete(url);
+            } else if (eventType == ProgressEventType.TRANSFER_FAILED_EVENT
+                    || eventType == ProgressEventType.TRANSFER_CANCELED_EVENT) {
+                closeQuietly(inputStream);
+                log.error("S3 업로드 실패: " + bucketUrl + "/" + fileName);
+                future.completeExceptionally(new AmazonClientException("S3 upload failed: " + bucketUrl + "/" + fileName));
+            }
+        });
+        try {
+            //업로드 시작 (기다리지 않음)
+            transferManager.upload(request);
+        } catch (AmazonClientException e) {
+            closeQuietly(inputStream);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public void delete(final String url) {
+        if (url == null || !url.startsWith(defaultUrl)) return;
+        final String key = url.substring(defaultUrl.length());
+        try {
+            amazonS3Client.deleteObject(bucket, key);
+        } catch (AmazonClientException e) {
+            log.error("S3 삭제 실패: " + key + " " + e.getMessage());
+        }
+    }
+
+    @Override
+    public InputStream open(final String folder, final String fileName) {
+        return amazonS3Client.getObject(bucket, key(folder, fileName)).getObjectContent();
+    }
+
+    @Override
+    public String startMultipart(final String folder, final String fileName, final String contentType) {
+        final ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        return amazonS3Client.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, key(folder, fileName), metadata)).getUploadId();
+    }
+
+    @Override
+    public String putPart(final String folder, final String fileName, final String multipartId, final int partNumber,
+                          final InputStream inputStream, final long length) {
+        final UploadPartRequest request = new UploadPartRequest()
+                .withBucketName(bucket)
+                .withKey(key(folder, fileName))
+                .withUploadId(multipartId)
+                .withPartNumber(partNumber)
+                .withInputStream(inputStream)
+                .withPartSize(length);
+        return amazonS3Client.uploadPart(request).getETag();
+    }
+
+    @Override
+    public String completeMultipart(final String folder, final String fileName, final String multipartId,
+                                    final SortedMap<Integer, String> partTags) {
+        List<PartETag> partETags = new ArrayList<>(partTags.size());
+        for (Map.Entry<Integer, String> partTag : partTags.entrySet()) {
+            partETags.add(new PartETag(partTag.getKey(), partTag.getValue()));
+        }
+        amazonS3Client.completeMultipartUpload(
+                new CompleteMultipartUploadRequest(bucket, key(folder, fileName), multipartId, partETags));
+        return defaultUrl + key(folder, fileName);
+    }
+
+    @Override
+    public void abortMultipart(final String folder, final String fileName, final String multipartId) {
+        try {
+            amazonS3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key(folder, fileName), multipartId));
+        } catch (AmazonClientException e) {
+            log.error("S3 분할 업로드 취소 실패: " + key(folder, fileName) + " " + e.getMessage());
+        }
+    }
+
+    private static String key(final String folder, final String fileName) {
+        return folder + "/" + fileName;
+    }
+
+    private static void closeQuietly(final InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            log.error(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.sopt.artoo.service.storage;
+
+import lombok.Getter;
+
+/**
+ * 저장소에 저장된 파일 (폴더, 파일 이름, 주소)
+ */
+@Getter
+public class StoredObject {
+    private final String folder;
+    private final String fileName;
+    private final String url;
+
+    public StoredObject(final String folder, final String fileName, final String url) {
+        this.folder = folder;
+        this.fileName = fileName;
+        this.url = url;
+    }
+}
@@ -0,0 +1,56 @@
+package org.sopt.artoo.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * DefaultRes 모양({status, message, len, data: [...]}) 목록 응답을 한 줄씩 바로 쓰는 스트리밍 writer
+ * ResultHandler 안에서 쓸 수 있도록 write 는 UncheckedIOException 을 던진다.
+ * finish() 전에 close() 되면(중간 실패) 닫는 괄호를 쓰지 않아서, 클라이언트는 잘린 응답을 JSON 오류로 알 수 있다.
+ */
+public class JsonListWriter implements Closeable {
+
+    private final JsonGenerator generator;
+
+    public JsonListWriter(final ObjectMapper objectMapper, final OutputStream outputStream, final String message) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        // close() 가 열린 배열/객체를 자동으로 닫아 일부만 담긴 정상 응답처럼 보이지 않도록
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        generator.writeStartObject();
+        generator.writeNumberField("status", StatusCode.OK);
+        generator.writeStringField("message", message);
+        generator.writeNumberField("len", 0);
+        generator.writeArrayFieldStart("data");
+    }
+
+    /**
+     * 목록에 한 개 쓰기
+     *
+     * @param row 응답 객체
+     */
+    public void write(final Object row) {
+        try {
+            generator.writeObject(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 목록 닫기 (끝까지 쓴 경우에만)
+     */
+    public void finish() throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -51,6 +51,12 @@ public class ResponseMessage {
     public static final String DELETE_CONTENT = "컨텐츠 삭제 성공";
     public static final String LIKE_CONTENT = "컨텐츠 좋아요/해제 성공";
     public static final String ARTWORK_NOPICUTRE = "그림이 없어요";
+    public static final String CREATE_UPLOAD = "분할 업로드 시작";
+    public static final String READ_UPLOAD = "분할 업로드 조회 성공";
+    public static final String UPLOAD_PART = "조각 업로드 성공";
+    public static final String FAIL_UPLOAD_PART = "조각 번호나 크기가 올바르지 않습니다.";
+    public static final String NOT_FOUND_UPLOAD = "분할 업로드가 없거나 만료되었습니다.";
+    public static final String DELETE_UPLOAD = "분할 업로드 취소";
     public static final String NO_ARTWORKLIKE = "작품에 대한 좋아요 없음";
     public static final String READ_ALL_ARTWORKLIKE = "작품에 대한 좋아요 수 조회 성공";
     public static final String NOT_FOUND_PURCHASE = "구매 항목 미기입";
@@ -4,15 +4,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.sopt.artoo.dto.User;
-import org.sopt.artoo.mapper.UserMapper;
 import org.sopt.artoo.model.DefaultRes;
 import org.sopt.artoo.service.JwtService;
+import org.sopt.artoo.utils.cache.UserCache;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
@@ -28,16 +30,16 @@ public class AuthAspect {
 
     private final HttpServletRequest httpServletRequest;
 
-    private final UserMapper userMapper;
+    private final UserCache userCache;
 
     private final JwtService jwtService;
 
     /**
      * Repository 의존성 주입
      */
-    public AuthAspect(final HttpServletRequest httpServletRequest, final UserMapper userMapper, final JwtService jwtService) {
+    public AuthAspect(final HttpServletRequest httpServletRequest, final UserCache userCache, final JwtService jwtService) {
         this.httpServletRequest = httpServletRequest;
-        this.userMapper = userMapper;
+        this.userCache = userCache;
         this.jwtService = jwtService;
     }
 
@@ -52,17 +54,28 @@ public class AuthAspect {
     public Object around(final ProceedingJoinPoint pjp) throws Throwable {
         final String jwt = httpServletRequest.getHeader(AUTHORIZATION);
         //토큰 존재 여부 확인
-        if (jwt == null) return RES_RESPONSE_ENTITY;
+        if (jwt == null) return unauthorized(pjp);
         //토큰 해독
         final JwtService.Token token = jwtService.decode(jwt);
         //토큰 검사
         if (token == null) {
-            return RES_RESPONSE_ENTITY;
+            return unauthorized(pjp);
         } else {
-            final User user = userMapper.findByUidx(token.getUser_idx());
+            final User user = userCache.findByUidx(token.getUser_idx());
             //유효 사용자 검사
-            if (user == null) return RES_RESPONSE_ENTITY;
+            if (user == null) return unauthorized(pjp);
             return pjp.proceed(pjp.getArgs());
         }
     }
+
+    /**
+     * 인증 실패 응답 (비동기 컨트롤러면 완료된 future 로 감싼다)
+     */
+    private static Object unauthorized(final ProceedingJoinPoint pjp) {
+        final Class<?> returnType = ((MethodSignature) pjp.getSignature()).getReturnType();
+        if (CompletableFuture.class.isAssignableFrom(returnType)) {
+            return CompletableFuture.completedFuture(RES_RESPONSE_ENTITY);
+        }
+        return RES_RESPONSE_ENTITY;
+    }
 }
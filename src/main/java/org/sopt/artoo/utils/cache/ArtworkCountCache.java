@@ -0,0 +1,77 @@
+package org.sopt.artoo.utils.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.sopt.artoo.mapper.ArtworkMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 활성화 된 작품 수 카운터
+ *
+ * 작품 저장/삭제/비활성화 때 갱신하고, 롤백 등으로 어긋난 값은 주기적으로 COUNT(*) 로 맞춘다.
+ */
+@Slf4j
+@Component
+public class ArtworkCountCache {
+
+    // 아직 DB 에서 읽지 않은 상태
+    private static final int NOT_LOADED = -1;
+
+    private final ArtworkMapper artworkMapper;
+
+    private final AtomicInteger count = new AtomicInteger(NOT_LOADED);
+
+    public ArtworkCountCache(final ArtworkMapper artworkMapper) {
+        this.artworkMapper = artworkMapper;
+    }
+
+    /**
+     * 활성화 작품 수 조회
+     *
+     * @return 활성화 작품 수
+     */
+    public int get() {
+        final int cur = count.get();
+        if (cur == NOT_LOADED) {
+            return load();
+        }
+        return cur;
+    }
+
+    /**
+     * 작품 활성화(저장)
+     */
+    public void increase() {
+        if (count.get() != NOT_LOADED) {
+            count.incrementAndGet();
+        }
+    }
+
+    /**
+     * 작품 비활성화(삭제)
+     */
+    public void decrease() {
+        if (count.get() != NOT_LOADED) {
+            count.updateAndGet(cur -> cur > 0 ? cur - 1 : cur);
+        }
+    }
+
+    /**
+     * DB 와 카운터 맞추기 (10분마다)
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void reconcile() {
+        load();
+    }
+
+    private int load() {
+        final int dbCount = artworkMapper.countActiveArtwork();
+        final int prev = count.getAndSet(dbCount);
+        if (prev != NOT_LOADED && prev != dbCount) {
+            log.info("artwork count reconciled: " + prev + " -> " + dbCount);
+        }
+        return dbCount;
+    }
+}
@@ -0,0 +1,244 @@
+package org.sopt.artoo.utils.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.sopt.artoo.dto.Artwork;
+import org.sopt.artoo.mapper.ArtworkMapper;
+import org.sopt.artoo.utils.constants.SizeConstant;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 작품 필터 색인 (a_idx 비트셋)
+ *
+ * 형태, 카테고리, 사이즈 구간별로 활성화 작품 a_idx 를 비트셋으로 들고 있어서
+ * 필터 요청은 비트셋 AND 로 끝난다. 작품 저장/수정/삭제 때 갱신하고 10분마다 DB 로 다시 만든다.
+ * 다시 만드는 동안(DB 를 읽는 동안) 들어온 갱신은 따로 모아 두었다가 새 색인에 다시 적용한 뒤 교체한다.
+ */
+@Slf4j
+@Component
+public class ArtworkFilterIndex {
+
+    private final ArtworkMapper artworkMapper;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 교체/수정은 lock 으로 보호
+    private volatile Index index;
+    // 다시 만드는 중에 들어온 갱신 (다시 만드는 중이 아니면 null), lock 으로 보호
+    private List<Consumer<Index>> pending;
+
+    public ArtworkFilterIndex(final ArtworkMapper artworkMapper) {
+        this.artworkMapper = artworkMapper;
+    }
+
+    /**
+     * 필터 조건에 맞는 작품 인덱스
+     *
+     * @param size     사이즈 (S, M, L, XL / "" 이면 조건 없음)
+     * @param form     형태 ("" 이면 조건 없음)
+     * @param category 카테고리 ("" 이면 조건 없음)
+     * @param below    이 인덱스보다 작은 작품만 (-1 이면 전체)
+     * @return 조건에 맞는 a_idx 비트셋 (새 객체)
+     */
+    public BitSet filter(final String size, final String form, final String category, final int below) {
+        loadIfAbsent();
+        lock.readLock().lock();
+        try {
+            final BitSet result = (BitSet) index.active.clone();
+            final int bucket = SizeConstant.bucketOf(size);
+            if (bucket != -1) {
+                result.and(index.sizes[bucket]);
+            }
+            if (!form.equals("")) {
+                result.and(index.forms.getOrDefault(form, new BitSet()));
+            }
+            if (!category.equals("")) {
+                result.and(index.categories.getOrDefault(category, new BitSet()));
+            }
+            if (below != -1 && below < result.length()) {
+                result.clear(below, result.length());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어가 들어간 형태 값 (활성화 작품이 있는 값만, 대소문자 무시)
+     *
+     * @param keyword 검색어
+     * @return 형태 값 리스트
+     */
+    public List<String> matchForms(final String keyword) {
+        loadIfAbsent();
+        lock.readLock().lock();
+        try {
+            return match(index.forms, keyword);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어가 들어간 카테고리 값 (활성화 작품이 있는 값만, 대소문자 무시)
+     *
+     * @param keyword 검색어
+     * @return 카테고리 값 리스트
+     */
+    public List<String> matchCategories(final String keyword) {
+        loadIfAbsent();
+        lock.readLock().lock();
+        try {
+            return match(index.categories, keyword);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 형태/카테고리는 값 종류가 몇 개 안 되므로 전부 훑는다
+    private static List<String> match(final Map<String, BitSet> values, final String keyword) {
+        final String lowerKeyword = keyword.toLowerCase();
+        List<String> matched = new ArrayList<>();
+        for (Map.Entry<String, BitSet> entry : values.entrySet()) {
+            if (!entry.getValue().isEmpty() && entry.getKey().toLowerCase().contains(lowerKeyword)) {
+                matched.add(entry.getKey());
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 작품 추가/수정
+     */
+    public void put(final int a_idx, final String a_form, final String a_category, final int a_size) {
+        apply(target -> {
+            target.remove(a_idx);
+            target.put(a_idx, a_form, a_category, a_size);
+        });
+    }
+
+    /**
+     * 작품 삭제/비활성화
+     */
+    public void remove(final int a_idx) {
+        apply(target -> target.remove(a_idx));
+    }
+
+    private void apply(final Consumer<Index> change) {
+        lock.writeLock().lock();
+        try {
+            if (index != null) change.accept(index);
+            if (pending != null) pending.add(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB 로 색인 다시 만들기 (10분마다)
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        final Index newIndex = new Index();
+        try {
+            for (Artwork artwork : artworkMapper.findAllFilterInfo()) {
+                newIndex.put(artwork.getA_idx(), artwork.getA_form(), artwork.getA_category(), artwork.getA_size());
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        lock.writeLock().lock();
+        try {
+            // 읽는 동안 들어온 갱신을 순서대로 다시 적용 (이미 읽은 값에 다시 적용해도 결과는 같다)
+            for (Consumer<Index> change : pending) {
+                change.accept(newIndex);
+            }
+            pending = null;
+            index = newIndex;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("artwork filter index rebuilt: " + newIndex.active.cardinality());
+    }
+
+    /**
+     * 비트셋을 a_idx 큰 순서 리스트로
+     *
+     * @param bitSet a_idx 비트셋
+     * @param limit  최대 개수
+     * @return a_idx 내림차순 리스트
+     */
+    public static List<Integer> toDescList(final BitSet bitSet, final int limit) {
+        List<Integer> artIdxList = new ArrayList<>();
+        for (int i = bitSet.previousSetBit(bitSet.length() - 1); i >= 0 && artIdxList.size() < limit; i = bitSet.previousSetBit(i - 1)) {
+            artIdxList.add(i);
+        }
+        return artIdxList;
+    }
+
+    private void loadIfAbsent() {
+        if (index == null) {
+            synchronized (this) {
+                if (index == null) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private static class Index {
+        private final BitSet active = new BitSet();
+        private final Map<String, BitSet> forms = new HashMap<>();
+        private final Map<String, BitSet> categories = new HashMap<>();
+        private final BitSet[] sizes = new BitSet[SizeConstant.SIZE_MIN.length];
+
+        private Index() {
+            for (int i = 0; i < sizes.length; i++) {
+                sizes[i] = new BitSet();
+            }
+        }
+
+        private void put(final int a_idx, final String a_form, final String a_category, final int a_size) {
+            active.set(a_idx);
+            if (a_form != null) {
+                forms.computeIfAbsent(a_form, k -> new BitSet()).set(a_idx);
+            }
+            if (a_category != null) {
+                categories.computeIfAbsent(a_category, k -> new BitSet()).set(a_idx);
+            }
+            final int bucket = SizeConstant.bucketOf(a_size);
+            if (bucket != -1) {
+                sizes[bucket].set(a_idx);
+            }
+        }
+
+        private void remove(final int a_idx) {
+            active.clear(a_idx);
+            for (BitSet bitSet : forms.values()) bitSet.clear(a_idx);
+            for (BitSet bitSet : categories.values()) bitSet.clear(a_idx);
+            for (BitSet bitSet : sizes) bitSet.clear(a_idx);
+        }
+    }
+}
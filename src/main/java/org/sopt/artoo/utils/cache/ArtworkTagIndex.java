@@ -0,0 +1,197 @@
+package org.sopt.artoo.utils.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.sopt.artoo.dto.Artwork;
+import org.sopt.artoo.mapper.ArtworkMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 테마(tag) 별 작품 목록 (t_idx -> 활성화 작품 a_idx 오름차순 배열)
+ *
+ * a_tags("3,4,5") 를 한 번만 나눠서 들고 있고, 작품 저장/수정/삭제 때 해당 태그 배열만 새로 만든다.
+ * 배열은 만든 뒤 바꾸지 않으므로 읽을 때는 잠그지 않는다. 10분마다 DB 로 다시 만든다.
+ * 다시 만드는 동안 들어온 추가/삭제는 모아 두었다가 새 목록에 다시 적용한 뒤 교체한다.
+ */
+@Slf4j
+@Component
+public class ArtworkTagIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final ArtworkMapper artworkMapper;
+
+    // 교체는 synchronized 안에서만
+    private volatile Map<Integer, int[]> postings;
+    // 다시 만드는 중에 들어온 변경 (a_idx, a_tags, 삭제는 a_tags null), 다시 만드는 중이 아니면 null. synchronized 로 보호
+    private List<Artwork> pending;
+    // 다시 만들기는 한 번에 하나만
+    private final Object rebuildLock = new Object();
+
+    public ArtworkTagIndex(final ArtworkMapper artworkMapper) {
+        this.artworkMapper = artworkMapper;
+    }
+
+    /**
+     * 테마 작품 중 무작위 작품
+     *
+     * @param t_idx 태그 인덱스
+     * @param limit 최대 개수
+     * @return 겹치지 않는 a_idx 리스트 (무작위 순서)
+     */
+    public List<Integer> sample(final int t_idx, final int limit) {
+        final int[] artIdxArr = find(t_idx).clone();
+        final int count = Math.min(limit, artIdxArr.length);
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Integer> artIdxList = new ArrayList<>(count);
+        // 앞에서부터 count 개만 섞기
+        for (int i = 0; i < count; i++) {
+            final int j = random.nextInt(i, artIdxArr.length);
+            final int tmp = artIdxArr[i];
+            artIdxArr[i] = artIdxArr[j];
+            artIdxArr[j] = tmp;
+            artIdxList.add(artIdxArr[i]);
+        }
+        return artIdxList;
+    }
+
+    /**
+     * 작품 추가/수정
+     *
+     * @param a_idx  작품 인덱스
+     * @param a_tags 태그 문자열 ("3,4,5")
+     */
+    public synchronized void put(final int a_idx, final String a_tags) {
+        if (postings != null) postings = putInto(postings, a_idx, a_tags);
+        record(a_idx, a_tags);
+    }
+
+    /**
+     * 작품 삭제/비활성화
+     *
+     * @param a_idx 작품 인덱스
+     */
+    public synchronized void remove(final int a_idx) {
+        if (postings != null) postings = removeFrom(postings, a_idx);
+        record(a_idx, null);
+    }
+
+    private void record(final int a_idx, final String a_tags) {
+        if (pending == null) return;
+        Artwork change = new Artwork();
+        change.setA_idx(a_idx);
+        change.setA_tags(a_tags);
+        pending.add(change);
+    }
+
+    /**
+     * DB 로 목록 다시 만들기 (10분마다)
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+            final List<Artwork> artworks;
+            try {
+                artworks = artworkMapper.findAllTagInfo();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    pending = null;
+                }
+                throw e;
+            }
+            final Map<Integer, List<Integer>> tagMap = new HashMap<>();
+            for (Artwork artwork : artworks) {
+                for (int t_idx : parseTags(artwork.getA_tags())) {
+                    tagMap.computeIfAbsent(t_idx, k -> new ArrayList<>()).add(artwork.getA_idx());
+                }
+            }
+            Map<Integer, int[]> newPostings = new HashMap<>();
+            for (Map.Entry<Integer, List<Integer>> entry : tagMap.entrySet()) {
+                final int[] artIdxArr = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+                Arrays.sort(artIdxArr);
+                newPostings.put(entry.getKey(), artIdxArr);
+            }
+            synchronized (this) {
+                // 읽는 동안 들어온 변경을 순서대로 다시 적용
+                for (Artwork change : pending) {
+                    newPostings = putInto(newPostings, change.getA_idx(), change.getA_tags());
+                }
+                pending = null;
+                postings = newPostings;
+            }
+            log.info("artwork tag index rebuilt: " + newPostings.size());
+        }
+    }
+
+    private int[] find(final int t_idx) {
+        if (postings == null) {
+            synchronized (rebuildLock) {
+                if (postings == null) {
+                    rebuild();
+                }
+            }
+        }
+        return postings.getOrDefault(t_idx, EMPTY);
+    }
+
+    // a_tags 가 null 이면 삭제와 같다
+    private static Map<Integer, int[]> putInto(final Map<Integer, int[]> postings, final int a_idx, final String a_tags) {
+        final Map<Integer, int[]> newPostings = removeFrom(postings, a_idx);
+        for (int t_idx : parseTags(a_tags)) {
+            newPostings.put(t_idx, insert(newPostings.getOrDefault(t_idx, EMPTY), a_idx));
+        }
+        return newPostings;
+    }
+
+    private static Map<Integer, int[]> removeFrom(final Map<Integer, int[]> postings, final int a_idx) {
+        final Map<Integer, int[]> newPostings = new HashMap<>(postings);
+        for (Map.Entry<Integer, int[]> entry : postings.entrySet()) {
+            final int[] artIdxArr = entry.getValue();
+            final int pos = Arrays.binarySearch(artIdxArr, a_idx);
+            if (pos >= 0) {
+                final int[] removed = new int[artIdxArr.length - 1];
+                System.arraycopy(artIdxArr, 0, removed, 0, pos);
+                System.arraycopy(artIdxArr, pos + 1, removed, pos, artIdxArr.length - pos - 1);
+                newPostings.put(entry.getKey(), removed);
+            }
+        }
+        return newPostings;
+    }
+
+    private static int[] insert(final int[] artIdxArr, final int a_idx) {
+        final int pos = Arrays.binarySearch(artIdxArr, a_idx);
+        if (pos >= 0) return artIdxArr;
+        final int at = -pos - 1;
+        final int[] inserted = new int[artIdxArr.length + 1];
+        System.arraycopy(artIdxArr, 0, inserted, 0, at);
+        inserted[at] = a_idx;
+        System.arraycopy(artIdxArr, at, inserted, at + 1, artIdxArr.length - at);
+        return inserted;
+    }
+
+    private static List<Integer> parseTags(final String a_tags) {
+        List<Integer> tagList = new ArrayList<>();
+        if (a_tags == null) return tagList;
+        for (String tag : a_tags.split(",")) {
+            try {
+                final int t_idx = Integer.parseInt(tag.trim());
+                if (!tagList.contains(t_idx)) {
+                    tagList.add(t_idx);
+                }
+            } catch (NumberFormatException e) {
+                // 빈 값, 잘못된 태그는 무시
+            }
+        }
+        return tagList;
+    }
+}
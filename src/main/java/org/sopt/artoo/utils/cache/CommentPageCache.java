@@ -0,0 +1,132 @@
+package org.sopt.artoo.utils.cache;
+
+import org.sopt.artoo.dto.Comment;
+import org.sopt.artoo.mapper.CommentMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 작품 댓글 페이지 캐시 (a_idx -> 페이지)
+ *
+ * 작성자 이름까지 조인한 댓글 페이지를 작품별로 5분까지 들고 있는다. (작품 256개, 작품당 페이지 16개까지)
+ * 댓글 작성/수정/삭제, 작품 삭제 때 evict(a_idx) 로 그 작품 페이지를 모두 지워야 한다. (작성자 이름 변경은 5분 뒤 반영)
+ */
+@Component
+public class CommentPageCache {
+
+    private static final int MAX_ARTWORKS = 256;
+    private static final int MAX_PAGES = 16;
+    private static final long TTL_MILLIS = 5 * 60 * 1000;
+
+    private final CommentMapper commentMapper;
+
+    // 접근 순서 LRU, synchronized 로 보호
+    private final Map<Integer, Map<String, Entry>> cache = new LinkedHashMap<Integer, Map<String, Entry>>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, Map<String, Entry>> eldest) {
+            return size() > MAX_ARTWORKS;
+        }
+    };
+    // 제거할 때마다 1씩 증가, cache 와 같이 synchronized 로 보호
+    private long generation;
+
+    public CommentPageCache(final CommentMapper commentMapper) {
+        this.commentMapper = commentMapper;
+    }
+
+    /**
+     * 작품 댓글 페이지 조회
+     *
+     * @param a_idx  작품 인덱스
+     * @param c_date 이전 페이지 마지막 댓글 c_date (null 이면 첫 페이지)
+     * @param c_idx  이전 페이지 마지막 댓글 인덱스
+     * @param limit  최대 개수 (-1 이면 전부)
+     * @return 댓글 리스트 (호출마다 새 객체라 auth 등을 바꿔도 됨)
+     */
+    public List<Comment> find(final int a_idx, final Date c_date, final int c_idx, final int limit) {
+        final String key = c_date == null ? "first/" + limit : c_date.getTime() + "/" + c_idx + "/" + limit;
+        final long loadGeneration;
+        synchronized (cache) {
+            final Map<String, Entry> pages = cache.get(a_idx);
+            final Entry entry = pages == null ? null : pages.get(key);
+            if (entry != null && System.currentTimeMillis() - entry.loadedAt <= TTL_MILLIS) {
+                return copy(entry.comments);
+            }
+            loadGeneration = generation;
+        }
+        final List<Comment> comments = commentMapper.findCommentPageByArtIdx(a_idx, c_date, c_idx, limit);
+        synchronized (cache) {
+            // 읽는 동안 제거가 있었으면 바뀌기 전 페이지일 수 있으므로 넣지 않는다
+            if (generation != loadGeneration) {
+                return comments;
+            }
+            Map<String, Entry> pages = cache.get(a_idx);
+            if (pages == null) {
+                pages = new HashMap<>();
+                cache.put(a_idx, pages);
+            }
+            if (pages.size() < MAX_PAGES || pages.containsKey(key)) {
+                pages.put(key, new Entry(copy(comments), System.currentTimeMillis()));
+            }
+        }
+        return comments;
+    }
+
+    /**
+     * 작품 댓글이 바뀌었을 때 그 작품 페이지 모두 제거 (트랜잭션 안이면 커밋 후에 한 번 더 제거)
+     *
+     * @param a_idx 작품 인덱스
+     */
+    public void evict(final int a_idx) {
+        evictNow(a_idx);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(final int status) {
+                    evictNow(a_idx);
+                }
+            });
+        }
+    }
+
+    private void evictNow(final int a_idx) {
+        synchronized (cache) {
+            generation++;
+            cache.remove(a_idx);
+        }
+    }
+
+    // 공유 캐시 객체는 밖에서 수정하지 못하도록 복사해서 주고받는다
+    private static List<Comment> copy(final List<Comment> comments) {
+        final List<Comment> copied = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            Comment c = new Comment();
+            c.setC_idx(comment.getC_idx());
+            c.setC_content(comment.getC_content());
+            c.setC_date(comment.getC_date());
+            c.setU_idx(comment.getU_idx());
+            c.setA_idx(comment.getA_idx());
+            c.setU_name(comment.getU_name());
+            copied.add(c);
+        }
+        return copied;
+    }
+
+    private static class Entry {
+        private final List<Comment> comments;
+        private final long loadedAt;
+
+        private Entry(final List<Comment> comments, final long loadedAt) {
+            this.comments = comments;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
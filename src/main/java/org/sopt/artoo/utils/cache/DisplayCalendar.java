@@ -0,0 +1,196 @@
+package org.sopt.artoo.utils.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.sopt.artoo.dto.Display;
+import org.sopt.artoo.mapper.DisplayMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 전시 달력 (전시 기간, 신청 기간)
+ *
+ * 전시 목록을 읽을 때 날짜 문자열을 한 번만 파싱해서, 기간의 경계 시각을 정렬한 배열과 구간별 전시 목록을 만들어 둔다.
+ * "지금 전시 중", "지금 신청 중" 조회는 경계 배열 이진 탐색 한 번으로 끝난다. (DateRes.isContain 과 같은 기준)
+ * 전시 추가/수정/삭제 때 invalidate() 로 표시해두면 다음 조회 때 다시 만든다. (변경이 없어도 10분마다)
+ */
+@Slf4j
+@Component
+public class DisplayCalendar {
+
+    // 변경이 없어도 다시 만드는 주기 (DB 를 직접 고친 경우)
+    private static final long MAX_AGE_MILLIS = 10 * 60 * 1000;
+
+    private final DisplayMapper displayMapper;
+
+    private volatile Snapshot snapshot;
+    private volatile boolean dirty;
+
+    public DisplayCalendar(final DisplayMapper displayMapper) {
+        this.displayMapper = displayMapper;
+    }
+
+    /**
+     * 지금 전시 중인 전시 (d_sDateNow ~ d_eDateNow)
+     *
+     * @return 전시 목록 (복사본)
+     */
+    public List<Display> findNow() {
+        return snapshot().now.find(System.currentTimeMillis());
+    }
+
+    /**
+     * 지금 신청 중인 전시 (d_sDateApply ~ d_eDateApply)
+     *
+     * @return 전시 목록 (복사본)
+     */
+    public List<Display> findApplying() {
+        return snapshot().apply.find(System.currentTimeMillis());
+    }
+
+    /**
+     * 전시가 바뀌었음을 표시 (트랜잭션 안이면 커밋 후에 한 번 더 표시)
+     */
+    public void invalidate() {
+        dirty = true;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(final int status) {
+                    dirty = true;
+                }
+            });
+        }
+    }
+
+    private Snapshot snapshot() {
+        final Snapshot cur = snapshot;
+        if (cur != null && !dirty && System.currentTimeMillis() - cur.createdAt <= MAX_AGE_MILLIS) {
+            return cur;
+        }
+        synchronized (this) {
+            if (snapshot == null || dirty || System.currentTimeMillis() - snapshot.createdAt > MAX_AGE_MILLIS) {
+                dirty = false;
+                snapshot = build(displayMapper.findAllDisplay());
+            }
+            return snapshot;
+        }
+    }
+
+    private static Snapshot build(final List<Display> displays) {
+        final SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd");
+        final List<Window> nowWindows = new ArrayList<>();
+        final List<Window> applyWindows = new ArrayList<>();
+        for (Display display : displays) {
+            final Window now = window(df, display, display.getD_sDateNow(), display.getD_eDateNow());
+            if (now != null) nowWindows.add(now);
+            final Window apply = window(df, display, display.getD_sDateApply(), display.getD_eDateApply());
+            if (apply != null) applyWindows.add(apply);
+        }
+        return new Snapshot(new Timeline(nowWindows), new Timeline(applyWindows), System.currentTimeMillis());
+    }
+
+    // 읽을 수 없는 날짜는 isContain 처럼 항상 불포함
+    private static Window window(final SimpleDateFormat df, final Display display, final String sdate, final String edate) {
+        try {
+            final long start = df.parse(sdate).getTime();
+            // isContain 은 끝 날짜 0시까지 포함이므로 [start, end + 1) 로 둔다
+            final long end = df.parse(edate).getTime() + 1;
+            if (end <= start) return null;
+            return new Window(start, end, display);
+        } catch (ParseException | NullPointerException e) {
+            log.error("전시 날짜 오류 d_idx=" + display.getD_idx() + " : " + e.getMessage());
+            return null;
+        }
+    }
+
+    // 공유 객체는 밖에서 수정하지 못하도록 복사해서 준다
+    private static Display copy(final Display display) {
+        Display copied = new Display();
+        copied.setD_idx(display.getD_idx());
+        copied.setD_sDateNow(display.getD_sDateNow());
+        copied.setD_eDateNow(display.getD_eDateNow());
+        copied.setD_sDateApply(display.getD_sDateApply());
+        copied.setD_eDateApply(display.getD_eDateApply());
+        copied.setD_repImg_url(display.getD_repImg_url());
+        copied.setD_titleImg_url(display.getD_titleImg_url());
+        copied.setD_mainImg_url(display.getD_mainImg_url());
+        copied.setD_title(display.getD_title());
+        copied.setD_subTitle(display.getD_subTitle());
+        copied.setD_longDetail(display.getD_longDetail());
+        copied.setD_shortDetail(display.getD_shortDetail());
+        return copied;
+    }
+
+    private static class Window {
+        private final long start;
+        private final long end;
+        private final Display display;
+
+        private Window(final long start, final long end, final Display display) {
+            this.start = start;
+            this.end = end;
+            this.display = display;
+        }
+    }
+
+    /**
+     * 기간 경계 시각(정렬)과 경계 사이 구간마다 걸쳐 있는 전시 목록
+     * bounds[i] <= t < bounds[i + 1] 이면 segments[i] 가 t 에 진행 중인 전시다.
+     */
+    private static class Timeline {
+        private final long[] bounds;
+        private final Display[][] segments;
+
+        private Timeline(final List<Window> windows) {
+            final TreeSet<Long> points = new TreeSet<>();
+            for (Window window : windows) {
+                points.add(window.start);
+                points.add(window.end);
+            }
+            bounds = new long[points.size()];
+            int i = 0;
+            for (long point : points) bounds[i++] = point;
+
+            // 구간 안 순서는 findAllDisplay 순서를 따른다
+            final List<List<Display>> lists = new ArrayList<>(bounds.length);
+            for (i = 0; i < bounds.length; i++) lists.add(new ArrayList<>());
+            for (Window window : windows) {
+                final int from = Arrays.binarySearch(bounds, window.start);
+                final int to = Arrays.binarySearch(bounds, window.end);
+                for (int s = from; s < to; s++) lists.get(s).add(window.display);
+            }
+            segments = new Display[bounds.length][];
+            for (i = 0; i < bounds.length; i++) segments[i] = lists.get(i).toArray(new Display[0]);
+        }
+
+        private List<Display> find(final long time) {
+            int index = Arrays.binarySearch(bounds, time);
+            // 없으면 time 보다 작은 마지막 경계
+            if (index < 0) index = -index - 2;
+            if (index < 0 || segments[index].length == 0) return new ArrayList<>();
+            final List<Display> found = new ArrayList<>(segments[index].length);
+            for (Display display : segments[index]) found.add(copy(display));
+            return found;
+        }
+    }
+
+    private static class Snapshot {
+        private final Timeline now;
+        private final Timeline apply;
+        private final long createdAt;
+
+        private Snapshot(final Timeline now, final Timeline apply, final long createdAt) {
+            this.now = now;
+            this.apply = apply;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.sopt.artoo.utils.cache;
+
+import org.sopt.artoo.mapper.DisplayContentMapper;
+import org.sopt.artoo.mapper.DisplayMapper;
+import org.sopt.artoo.model.DisplayContentRes;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전시관람(전시 작품 목록) 캐시 (d_idx)
+ *
+ * 전시 기간 동안 작품 목록은 거의 바뀌지 않으므로, 작가 이름과 사진까지 조인한 목록을 전시별로 5분까지 들고 있는다.
+ * 전시 신청/취소, 전시 수정/삭제 때 evict(d_idx), 작품 수정/삭제 때 evictAll() 을 불러야 한다. (작가 이름 변경은 5분 뒤 반영)
+ */
+@Component
+public class DisplayGalleryCache {
+
+    private static final int MAX_SIZE = 64;
+    private static final long TTL_MILLIS = 5 * 60 * 1000;
+
+    private final DisplayContentMapper displayContentMapper;
+    private final DisplayMapper displayMapper;
+
+    // 접근 순서 LRU, synchronized 로 보호
+    private final Map<Integer, Entry> cache = new LinkedHashMap<Integer, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, Entry> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+    // 제거할 때마다 1씩 증가, cache 와 같이 synchronized 로 보호
+    private long generation;
+
+    public DisplayGalleryCache(final DisplayContentMapper displayContentMapper, final DisplayMapper displayMapper) {
+        this.displayContentMapper = displayContentMapper;
+        this.displayMapper = displayMapper;
+    }
+
+    /**
+     * 전시 작품 목록 조회
+     *
+     * @param d_idx 전시 고유 인덱스
+     * @return 작품 목록 (수정 불가, 작품이 없으면 빈 리스트), 전시가 없으면 null
+     */
+    public List<DisplayContentRes> find(final int d_idx) {
+        final long loadGeneration;
+        synchronized (cache) {
+            final Entry entry = cache.get(d_idx);
+            if (entry != null && System.currentTimeMillis() - entry.loadedAt <= TTL_MILLIS) {
+                return entry.gallery;
+            }
+            loadGeneration = generation;
+        }
+        final List<DisplayContentRes> gallery = displayContentMapper.findArtworksByDisplayIdx(d_idx);
+        // 작품이 없을 때만 전시가 있는지 따로 확인 (없는 전시는 캐시하지 않음)
+        if (gallery.isEmpty() && displayMapper.findByDisplayidx(d_idx) == null) {
+            return null;
+        }
+        final List<DisplayContentRes> unmodifiable = Collections.unmodifiableList(new ArrayList<>(gallery));
+        synchronized (cache) {
+            // 읽는 동안 제거가 있었으면 바뀌기 전 목록일 수 있으므로 넣지 않는다
+            if (generation == loadGeneration) {
+                cache.put(d_idx, new Entry(unmodifiable, System.currentTimeMillis()));
+            }
+        }
+        return unmodifiable;
+    }
+
+    /**
+     * 전시 작품이 바뀌었을 때 캐시에서 제거 (트랜잭션 안이면 커밋 후에 한 번 더 제거)
+     *
+     * @param d_idx 전시 고유 인덱스
+     */
+    public void evict(final int d_idx) {
+        evictNow(d_idx);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(final int status) {
+                    evictNow(d_idx);
+                }
+            });
+        }
+    }
+
+    /**
+     * 작품 정보가 바뀌었을 때 전체 제거 (어느 전시에 걸렸는지 찾지 않는다)
+     */
+    public void evictAll() {
+        clearNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(final int status) {
+                    clearNow();
+                }
+            });
+        }
+    }
+
+    private void evictNow(final int d_idx) {
+        synchronized (cache) {
+            generation++;
+            cache.remove(d_idx);
+        }
+    }
+
+    private void clearNow() {
+        synchronized (cache) {
+            generation++;
+            cache.clear();
+        }
+    }
+
+    private static class Entry {
+        private final List<DisplayContentRes> gallery;
+        private final long loadedAt;
+
+        private Entry(final List<DisplayContentRes> gallery, final long loadedAt) {
+            this.gallery = gallery;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.sopt.artoo.utils.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.sopt.artoo.dto.ArtistLikeCount;
+import org.sopt.artoo.mapper.HomeMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 이번 달 작가별 좋아요 순위
+ *
+ * 작가별 좋아요 수와 (좋아요 수 내림차순, u_idx 오름차순) 정렬 집합을 들고 있어서
+ * 상위 K명 조회는 앞에서 K개만 읽는다. 좋아요/취소 때 갱신하고,
+ * 작품 비활성화나 롤백으로 어긋난 값은 10분마다 al_date 범위 집계로 맞춘다. 달이 바뀌면 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class MonthlyLikeLeaderboard {
+
+    private final HomeMapper homeMapper;
+
+    private final Map<Integer, Integer> counts = new HashMap<>();
+
+    private final TreeSet<Integer> ranking = new TreeSet<>(
+            Comparator.<Integer>comparingInt(u_idx -> -counts.get(u_idx)).thenComparingInt(u_idx -> u_idx));
+
+    // 집계 중인 달 (null 이면 아직 읽지 않음)
+    private YearMonth month;
+
+    public MonthlyLikeLeaderboard(final HomeMapper homeMapper) {
+        this.homeMapper = homeMapper;
+    }
+
+    /**
+     * 이번 달 좋아요 많은 작가
+     *
+     * @param limit 최대 인원
+     * @return u_idx 리스트 (좋아요 많은 순, 좋아요 0 인 작가는 없음)
+     */
+    public synchronized List<Integer> top(final int limit) {
+        if (!YearMonth.now().equals(month)) {
+            load();
+        }
+        List<Integer> userIdxList = new ArrayList<>(limit);
+        Iterator<Integer> iterator = ranking.iterator();
+        while (iterator.hasNext() && userIdxList.size() < limit) {
+            userIdxList.add(iterator.next());
+        }
+        return userIdxList;
+    }
+
+    /**
+     * 좋아요
+     *
+     * @param u_idx   작품 작가
+     * @param likedAt 좋아요 누른 시간
+     */
+    public synchronized void like(final int u_idx, final Date likedAt) {
+        add(u_idx, likedAt, 1);
+    }
+
+    /**
+     * 좋아요 취소
+     *
+     * @param u_idx   작품 작가
+     * @param likedAt 취소한 좋아요를 눌렀던 시간 (다른 달이면 무시)
+     */
+    public synchronized void unlike(final int u_idx, final Date likedAt) {
+        add(u_idx, likedAt, -1);
+    }
+
+    /**
+     * DB 와 순위 맞추기 (10분마다)
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public synchronized void reconcile() {
+        if (month != null) {
+            load();
+        }
+    }
+
+    private void add(final int u_idx, final Date likedAt, final int delta) {
+        if (month == null || likedAt == null) return;
+        if (!YearMonth.from(likedAt.toInstant().atZone(ZoneId.systemDefault())).equals(month)) return;
+        final int cur = counts.getOrDefault(u_idx, 0);
+        final int next = Math.max(cur + delta, 0);
+        if (cur > 0) ranking.remove(u_idx);
+        if (next > 0) {
+            counts.put(u_idx, next);
+            ranking.add(u_idx);
+        } else {
+            counts.remove(u_idx);
+        }
+    }
+
+    private void load() {
+        final YearMonth now = YearMonth.now();
+        final List<ArtistLikeCount> likeCountList = homeMapper.findArtistLikeCountBetween(
+                now.atDay(1).toString(), now.plusMonths(1).atDay(1).toString());
+        ranking.clear();
+        counts.clear();
+        for (ArtistLikeCount likeCount : likeCountList) {
+            if (likeCount.getLike_count() > 0) {
+                counts.put(likeCount.getU_idx(), likeCount.getLike_count());
+                ranking.add(likeCount.getU_idx());
+            }
+        }
+        month = now;
+        log.info("monthly like leaderboard loaded: " + now + " " + counts.size());
+    }
+}
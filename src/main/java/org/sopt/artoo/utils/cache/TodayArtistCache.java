@@ -0,0 +1,199 @@
+package org.sopt.artoo.utils.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.sopt.artoo.dto.ArtworkPic;
+import org.sopt.artoo.dto.Home;
+import org.sopt.artoo.dto.HomeData;
+import org.sopt.artoo.mapper.ArtworkMapper;
+import org.sopt.artoo.mapper.ArtworkPicMapper;
+import org.sopt.artoo.mapper.HomeMapper;
+import org.sopt.artoo.model.DefaultRes;
+import org.sopt.artoo.utils.ResponseMessage;
+import org.sopt.artoo.utils.StatusCode;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 홈 - 오늘의 작가 응답 캐시
+ *
+ * 응답 JSON 을 미리 만들어 두고 ETag 와 같이 돌려준다.
+ * 좋아요/작품 변경 때 invalidate() 로 표시만 해두고, 30초마다 확인해서 다시 만든다. (변경이 없어도 10분마다)
+ */
+@Slf4j
+@Component
+public class TodayArtistCache {
+
+    // 오늘의 작가 수
+    private static final int TODAY_ARTIST_COUNT = 5;
+    // 변경이 없어도 다시 만드는 주기 (월이 바뀌는 경우)
+    private static final long MAX_AGE_MILLIS = 10 * 60 * 1000;
+
+    private final HomeMapper homeMapper;
+    private final ArtworkMapper artworkMapper;
+    private final ArtworkPicMapper artworkPicMapper;
+    private final MonthlyLikeLeaderboard monthlyLikeLeaderboard;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+    private volatile boolean dirty;
+
+    public TodayArtistCache(final HomeMapper homeMapper, final ArtworkMapper artworkMapper,
+                            final ArtworkPicMapper artworkPicMapper, final MonthlyLikeLeaderboard monthlyLikeLeaderboard,
+                            final ObjectMapper objectMapper) {
+        this.homeMapper = homeMapper;
+        this.artworkMapper = artworkMapper;
+        this.artworkPicMapper = artworkPicMapper;
+        this.monthlyLikeLeaderboard = monthlyLikeLeaderboard;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 오늘의 작가 응답
+     *
+     * @return 미리 만든 응답 (처음 한 번은 여기서 만든다)
+     */
+    public Snapshot get() {
+        if (snapshot == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 좋아요/작품이 바뀌었음을 표시 (트랜잭션 안이면 커밋 후에 한 번 더 표시)
+     */
+    public void invalidate() {
+        dirty = true;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(final int status) {
+                    dirty = true;
+                }
+            });
+        }
+    }
+
+    /**
+     * 바뀐 게 있거나 오래됐으면 다시 만들기 (30초마다 확인)
+     */
+    @Scheduled(fixedDelay = 30 * 1000)
+    public void refreshIfStale() {
+        final Snapshot cur = snapshot;
+        if (cur == null) return;
+        if (dirty || System.currentTimeMillis() - cur.getCreatedAt() > MAX_AGE_MILLIS) {
+            refresh();
+        }
+    }
+
+    private synchronized void refresh() {
+        dirty = false;
+        final DefaultRes defaultRes = build();
+        if (defaultRes.getStatus() == StatusCode.DB_ERROR && snapshot != null) {
+            // 이전 응답 유지, 다음 확인 때 다시 시도
+            dirty = true;
+            return;
+        }
+        try {
+            final byte[] body = objectMapper.writeValueAsBytes(defaultRes);
+            final String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            if (snapshot != null && snapshot.getEtag().equals(etag)) {
+                snapshot = new Snapshot(snapshot.getBody(), etag, System.currentTimeMillis());
+                return;
+            }
+            snapshot = new Snapshot(body, etag, System.currentTimeMillis());
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            dirty = true;
+            if (snapshot == null) throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 좋아요 순위 5개 작가, 작가 작품
+     * 작가 정보는 작가당 1번, 사진은 전체 1번 조회
+     *
+     * @return DefaultRes
+     */
+    private DefaultRes build() {
+        List<Home> todayArtistList = new ArrayList<>();
+        try {
+            final List<Integer> todayUserIdxList = monthlyLikeLeaderboard.top(TODAY_ARTIST_COUNT); //오늘의 작가 u_idx 리스트(이번 달 좋아요 순)
+            if (todayUserIdxList.size() < TODAY_ARTIST_COUNT) {         //좋아요 눌린 작가 수가 5명 이하일 때
+                List<Integer> artistIdxList = artworkMapper.findAllUserIdx();
+                artistIdxList.removeAll(todayUserIdxList); // 있는 userIdx 삭제
+                for (int i = 0; i < artistIdxList.size() && todayUserIdxList.size() < TODAY_ARTIST_COUNT; i++) {
+                    todayUserIdxList.add(artistIdxList.get(i));
+                }
+            }
+
+            List<HomeData> allArtDataList = new ArrayList<>();
+            for (int u_idx : todayUserIdxList) {
+                List<HomeData> artDataList = homeMapper.findArtistContentsByUserIdx(u_idx); //u_name, u_year 리스트, pic_url은 null
+                final Home artist = homeMapper.findArtistNameDescriptByUserIdx(u_idx);
+                Home todayArtist = new Home();
+                todayArtist.setU_idx(u_idx);
+                todayArtist.setU_name(artist.getU_name());
+                todayArtist.setU_school(artist.getU_school());
+                todayArtist.setU_description(artist.getU_description());
+                todayArtist.setList(artDataList);
+
+                todayArtistList.add(todayArtist);
+                allArtDataList.addAll(artDataList);
+            }
+            setPicUrl(allArtDataList);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return DefaultRes.res(StatusCode.DB_ERROR, ResponseMessage.NOT_FOUND_PICTURES);
+        }
+        if (todayArtistList.isEmpty()) {
+            return DefaultRes.res(StatusCode.NOT_FOUND, ResponseMessage.NOT_FOUND_CONTENT);
+        }
+        return DefaultRes.res(StatusCode.OK, ResponseMessage.READ_ARTIST, todayArtistList);
+    }
+
+    private void setPicUrl(final List<HomeData> artDataList) {
+        if (artDataList.isEmpty()) return;
+        List<Integer> artIdxList = new ArrayList<>();
+        for (HomeData artData : artDataList) {
+            artIdxList.add(artData.getA_idx());
+        }
+        final Map<Integer, ArtworkPic> picMap = artworkPicMapper.findMapByArtIdxList(artIdxList);
+        for (HomeData artData : artDataList) {
+            final ArtworkPic artworkPic = picMap.get(artData.getA_idx());
+            if (artworkPic != null) {
+                artData.setPic_url(artworkPic.getPic_url());
+                artData.setPic_thumb_url(artworkPic.getPic_thumb_url());
+            }
+        }
+    }
+
+    /**
+     * 미리 만든 응답 (JSON, ETag)
+     */
+    @Getter
+    public static class Snapshot {
+        private final byte[] body;
+        private final String etag;
+        private final long createdAt;
+
+        private Snapshot(final byte[] body, final String etag, final long createdAt) {
+            this.body = body;
+            this.etag = etag;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.sopt.artoo.utils.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 내용 주소(해시 이름)로 올린 파일 색인
+ *
+ * "폴더/해시 파일 이름" -> 파일 주소. 같은 내용을 다시 올리면 여기서 주소를 찾아 S3 PUT 을 건너뛴다.
+ * 이름이 내용으로 정해지므로 재시작으로 색인이 비어도 같은 키에 같은 내용을 한 번 더 올릴 뿐이다.
+ * 주소를 마지막으로 내준 시각을 같이 기록해서, 오래 쓰이지 않은 파일만 정리할 수 있게 한다.
+ */
+@Component
+public class UploadHashIndex {
+
+    private static final int MAX_SIZE = 4096;
+
+    // 접근 순서 LRU, synchronized 로 보호
+    private final Map<String, Entry> index = new LinkedHashMap<String, Entry>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    /**
+     * 이미 올린 파일 주소 조회 (찾으면 마지막 사용 시각 갱신)
+     *
+     * @param folder   버킷 안 폴더
+     * @param fileName 해시 파일 이름
+     * @return 파일 주소 (없으면 null)
+     */
+    public String find(final String folder, final String fileName) {
+        synchronized (index) {
+            final Entry entry = index.get(key(folder, fileName));
+            if (entry == null) return null;
+            entry.usedAt = System.currentTimeMillis();
+            return entry.url;
+        }
+    }
+
+    /**
+     * 업로드 완료 기록
+     *
+     * @param folder   버킷 안 폴더
+     * @param fileName 해시 파일 이름
+     * @param url      파일 주소
+     */
+    public void put(final String folder, final String fileName, final String url) {
+        synchronized (index) {
+            index.put(key(folder, fileName), new Entry(url, System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * 마지막 사용 시각이 기준보다 오래된 파일 주소
+     *
+     * @param usedBefore 기준 시각
+     * @return 파일 주소 리스트
+     */
+    public List<String> findIdle(final long usedBefore) {
+        final List<String> urls = new ArrayList<>();
+        synchronized (index) {
+            for (Entry entry : index.values()) {
+                if (entry.usedAt < usedBefore) urls.add(entry.url);
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * 그 사이에 다시 쓰이지 않았으면 색인에서 빼고 delete 실행
+     * delete 가 끝날 때까지 색인을 잠그므로, 같은 내용의 새 업로드는 파일이 지워진 뒤에 다시 올라간다.
+     *
+     * @param url        파일 주소
+     * @param usedBefore 기준 시각 (findIdle 에 넘긴 값)
+     * @param delete     실제 삭제
+     * @return 지웠으면 true
+     */
+    public boolean removeIfIdle(final String url, final long usedBefore, final Consumer<String> delete) {
+        synchronized (index) {
+            for (Map.Entry<String, Entry> entry : index.entrySet()) {
+                if (entry.getValue().url.equals(url)) {
+                    if (entry.getValue().usedAt >= usedBefore) return false;
+                    index.remove(entry.getKey());
+                    delete.accept(url);
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static String key(final String folder, final String fileName) {
+        return folder + "/" + fileName;
+    }
+
+    private static class Entry {
+        private final String url;
+        private long usedAt;
+
+        private Entry(final String url, final long usedAt) {
+            this.url = url;
+            this.usedAt = usedAt;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.sopt.artoo.utils.cache;
+
+import org.sopt.artoo.dto.User;
+import org.sopt.artoo.mapper.UserMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 유저 조회 캐시 (u_idx)
+ *
+ * 요청 안에서는 한 번 읽은 유저를 그대로 쓰고(요청 속성), 요청 사이에는 최근 유저를 LRU 로 5분까지 들고 있는다.
+ * 유저 정보를 바꾸는 곳(정보/소개/비밀번호 수정, 탈퇴)에서 evict() 를 불러야 한다.
+ */
+@Component
+public class UserCache {
+
+    private static final String REQUEST_ATTRIBUTE = UserCache.class.getName();
+    private static final int MAX_SIZE = 1024;
+    private static final long TTL_MILLIS = 5 * 60 * 1000;
+
+    private final UserMapper userMapper;
+
+    // 접근 순서 LRU, synchronized 로 보호
+    private final Map<Integer, Entry> cache = new LinkedHashMap<Integer, Entry>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, Entry> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    public UserCache(final UserMapper userMapper) {
+        this.userMapper = userMapper;
+    }
+
+    /**
+     * 유저 인덱스로 조회
+     *
+     * @param userIdx 유저 인덱스
+     * @return 유저 객체 (없으면 null, 요청이 다르면 서로 다른 객체)
+     */
+    public User findByUidx(final int userIdx) {
+        final Map<Integer, User> requestMemo = requestMemo();
+        if (requestMemo != null && requestMemo.containsKey(userIdx)) {
+            return requestMemo.get(userIdx);
+        }
+        User user = findShared(userIdx);
+        if (user == null) {
+            user = userMapper.findByUidx(userIdx);
+            if (user != null) {
+                putShared(userIdx, user);
+            }
+        }
+        if (requestMemo != null && user != null) {
+            requestMemo.put(userIdx, user);
+        }
+        return user;
+    }
+
+    /**
+     * 유저 정보가 바뀌었을 때 캐시에서 제거 (트랜잭션 안이면 커밋 후에 한 번 더 제거)
+     *
+     * @param userIdx 유저 인덱스
+     */
+    public void evict(final int userIdx) {
+        evictNow(userIdx);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(final int status) {
+                    evictNow(userIdx);
+                }
+            });
+        }
+    }
+
+    private void evictNow(final int userIdx) {
+        synchronized (cache) {
+            cache.remove(userIdx);
+        }
+        final Map<Integer, User> requestMemo = requestMemo();
+        if (requestMemo != null) {
+            requestMemo.remove(userIdx);
+        }
+    }
+
+    private User findShared(final int userIdx) {
+        synchronized (cache) {
+            final Entry entry = cache.get(userIdx);
+            if (entry == null) return null;
+            if (System.currentTimeMillis() - entry.loadedAt > TTL_MILLIS) {
+                cache.remove(userIdx);
+                return null;
+            }
+            return copy(entry.user);
+        }
+    }
+
+    private void putShared(final int userIdx, final User user) {
+        synchronized (cache) {
+            cache.put(userIdx, new Entry(copy(user), System.currentTimeMillis()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Integer, User> requestMemo() {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) return null;
+        Map<Integer, User> memo = (Map<Integer, User>) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+
+    // 공유 캐시 객체는 밖에서 수정하지 못하도록 복사해서 주고받는다
+    private static User copy(final User user) {
+        User copied = new User();
+        copied.setU_idx(user.getU_idx());
+        copied.setU_email(user.getU_email());
+        copied.setU_school(user.getU_school());
+        copied.setU_phone(user.getU_phone());
+        copied.setU_credit(user.getU_credit());
+        copied.setU_address(user.getU_address());
+        copied.setU_name(user.getU_name());
+        copied.setU_bank(user.getU_bank());
+        copied.setU_account(user.getU_account());
+        copied.setU_description(user.getU_description());
+        copied.setU_type(user.getU_type());
+        copied.setExternal_key(user.getExternal_key());
+        return copied;
+    }
+
+    private static class Entry {
+        private final User user;
+        private final long loadedAt;
+
+        private Entry(final User user, final long loadedAt) {
+            this.user = user;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.sopt.artoo.utils.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 비동기 요청(CompletableFuture 를 돌려주는 작품/전시 저장) 타임아웃
+ *
+ * 컨테이너 기본 타임아웃(톰캣 30초)은 큰 사진 업로드보다 짧아서, 응답은 503 으로 끝나는데 저장은 뒤에서 계속되고
+ * 클라이언트가 다시 보내 작품이 두 번 생긴다. 업로드가 끝날 수 있을 만큼 길게 잡는다.
+ */
+@Configuration
+public class AsyncRequestConfig implements WebMvcConfigurer {
+
+    // 비동기 요청 타임아웃 (기본 5분)
+    private final long timeoutMillis;
+
+    public AsyncRequestConfig(@Value("${upload.async.timeout-millis:300000}") final long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(timeoutMillis);
+    }
+}
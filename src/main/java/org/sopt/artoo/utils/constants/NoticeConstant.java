@@ -4,4 +4,6 @@ public class NoticeConstant {
     public static final int displayContents_apply =1;
     public static final int displayContents =2;
     public static final int displayContents_wait =3;
+    // 구매 알림에 판매자로 보여주는 관리자 계정
+    public static final int ADMIN_USER_IDX = 0;
 }
\ No newline at end of file
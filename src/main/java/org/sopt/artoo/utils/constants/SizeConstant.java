@@ -0,0 +1,34 @@
+package org.sopt.artoo.utils.constants;
+
+public class SizeConstant {
+    // 작품 사이즈 구간 S, M, L, XL (a_size = 가장 긴 두 변의 곱)
+    public static final String[] SIZE_NAMES = {"S", "M", "L", "XL"};
+    public static final int[] SIZE_MIN = {0, 2412, 6609, 10629};
+    public static final int[] SIZE_MAX = {2411, 6608, 10628, 21134};
+
+    /**
+     * 사이즈 이름으로 구간 찾기
+     *
+     * @param size S, M, L, XL
+     * @return 구간 번호 (없으면 -1)
+     */
+    public static int bucketOf(final String size) {
+        for (int i = 0; i < SIZE_NAMES.length; i++) {
+            if (SIZE_NAMES[i].equals(size)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * a_size 값으로 구간 찾기
+     *
+     * @param a_size 작품 사이즈
+     * @return 구간 번호 (없으면 -1)
+     */
+    public static int bucketOf(final int a_size) {
+        for (int i = 0; i < SIZE_MIN.length; i++) {
+            if (a_size >= SIZE_MIN[i] && a_size <= SIZE_MAX[i]) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,4 @@
+-- 키워드 검색의 형태/카테고리 IN 조회 (ArtworkSearchSqlProvider)
+ALTER TABLE artwork
+    ADD INDEX idx_artwork_a_category (a_category),
+    ADD INDEX idx_artwork_a_form (a_form);
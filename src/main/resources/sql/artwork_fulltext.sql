@@ -0,0 +1,4 @@
+-- 작품/작가 키워드 검색용 FULLTEXT 인덱스 (MySQL 5.7.6 이상, ngram 파서로 한글 검색)
+-- ngram_token_size 는 기본값 2 를 사용한다 (ArtworkFilterReq.NGRAM_TOKEN_SIZE 와 맞출 것)
+ALTER TABLE artwork ADD FULLTEXT INDEX ft_artwork_name_detail (a_name, a_detail) WITH PARSER ngram;
+ALTER TABLE user ADD FULLTEXT INDEX ft_user_name_school (u_name, u_school) WITH PARSER ngram;
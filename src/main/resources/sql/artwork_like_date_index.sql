@@ -0,0 +1,2 @@
+-- 월별 좋아요 순위 재계산용 (al_date 범위 조회)
+ALTER TABLE artworkLike ADD INDEX idx_artworklike_al_date (al_date);
@@ -0,0 +1,3 @@
+-- 유저당 작품 좋아요 1개 (ArtworkLikeMapper.saveIfAbsent 가 동시 요청에도 한 번만 저장되도록)
+-- 기존 중복 행은 먼저 정리해야 한다
+ALTER TABLE artworkLike ADD UNIQUE KEY uk_artworklike_user_artwork (u_idx, a_idx);
@@ -0,0 +1,5 @@
+-- 작품 사진 축소본 주소 (ImageRenditionService 가 업로드할 때 만든다)
+-- 예전 사진은 NULL 이고, 조회할 때 원본 주소로 채운다 (ArtworkPicMapper.PIC_COLUMNS)
+ALTER TABLE artworkPic
+    ADD COLUMN pic_thumb_url VARCHAR(255) NULL AFTER pic_url,
+    ADD COLUMN pic_medium_url VARCHAR(255) NULL AFTER pic_thumb_url;
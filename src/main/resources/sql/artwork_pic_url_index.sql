@@ -0,0 +1,5 @@
+-- 사진 주소로 참조 확인 (ArtworkPicMapper.existsByUrl, 쓰지 않는 해시 파일 정리)
+ALTER TABLE artworkPic
+    ADD INDEX idx_artworkpic_pic_url (pic_url),
+    ADD INDEX idx_artworkpic_pic_thumb_url (pic_thumb_url),
+    ADD INDEX idx_artworkpic_pic_medium_url (pic_medium_url);
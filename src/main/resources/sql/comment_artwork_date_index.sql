@@ -0,0 +1,2 @@
+-- 작품 댓글 페이지 조회용 (a_idx = ? ORDER BY c_date DESC, c_idx DESC, 키셋 페이징)
+ALTER TABLE comment ADD INDEX idx_comment_artwork_date (a_idx, c_date, c_idx);
@@ -0,0 +1,2 @@
+-- 작품별 전시 조회용 (마이페이지 작품 타일의 전시 여부 EXISTS, 작품 삭제)
+ALTER TABLE display_content ADD INDEX idx_display_content_artwork (a_idx, d_idx);
@@ -0,0 +1,2 @@
+-- 전시별 참여 작가/작품 조회용 (d_idx IN (...) ORDER BY d_idx, dc_idx)
+ALTER TABLE display_content ADD INDEX idx_display_content_display (d_idx, dc_idx);